@@ -0,0 +1,65 @@
+package com.bingo.Bingo.benchmark;
+
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.engine.CardReservations;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The /available-cards arithmetic: the original list of all 400 codes minus the taken list,
+ * against paging and random picks straight off the reservation bitmap.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvailableCardsBenchmark {
+
+    @Param({"10", "200", "390"})
+    public int taken;
+
+    private CardReservations reservations;
+    private List<Integer> takenCodes;
+
+    @Setup
+    public void setUp() {
+        reservations = new CardReservations();
+        Random random = new Random(11);
+        while (reservations.count() < taken) {
+            reservations.claim(1 + random.nextInt(BingoDeck.DECK_SIZE));
+        }
+        takenCodes = reservations.takenCodes();
+    }
+
+    @Benchmark
+    public List<Integer> listRemoveAll() {
+        List<Integer> available = new ArrayList<>();
+        for (int i = 1; i <= BingoDeck.DECK_SIZE; i++) {
+            available.add(i);
+        }
+        available.removeAll(takenCodes);
+        return available;
+    }
+
+    @Benchmark
+    public List<Integer> bitmapAvailableCodes() {
+        return reservations.availableCodes(0, BingoDeck.DECK_SIZE);
+    }
+
+    @Benchmark
+    public List<Integer> bitmapTakenCodes() {
+        return reservations.takenCodes();
+    }
+
+    @Benchmark
+    public int bitmapRandomAvailable() {
+        return reservations.randomAvailable(ThreadLocalRandom.current());
+    }
+}
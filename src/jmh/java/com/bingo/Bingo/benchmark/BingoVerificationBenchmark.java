@@ -0,0 +1,90 @@
+package com.bingo.Bingo.benchmark;
+
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.engine.CalledNumbers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BINGO verification of one card after 30 calls: parsing the stored card JSON and checking
+ * lines against a set of called numbers (the original path), the same check on an already
+ * parsed card, and the deck's line masks against the called-number bitset.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BingoVerificationBenchmark {
+
+    private static final int CARD_CODE = 123;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BingoDeck deck;
+    private String cardJson;
+    private List<List<Integer>> card;
+    private Set<Integer> calledSet;
+    private CalledNumbers called;
+
+    @Setup
+    public void setUp() throws Exception {
+        deck = BingoDeck.generate(400);
+        card = deck.cardNumbers(CARD_CODE);
+        cardJson = objectMapper.writeValueAsString(card);
+
+        List<Integer> numbers = new ArrayList<>();
+        for (int n = 1; n <= CalledNumbers.MAX_NUMBER; n++) numbers.add(n);
+        Collections.shuffle(numbers, new Random(7));
+        calledSet = new HashSet<>(numbers.subList(0, 30));
+        called = CalledNumbers.of(calledSet);
+    }
+
+    @Benchmark
+    public boolean parseJsonAndCheck() throws Exception {
+        List<List<Integer>> parsed = objectMapper.readValue(cardJson,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, List.class));
+        return hasLine(parsed, calledSet);
+    }
+
+    @Benchmark
+    public boolean parsedCardCheck() {
+        return hasLine(card, calledSet);
+    }
+
+    @Benchmark
+    public boolean deckBitmaskCheck() {
+        return deck.hasBingo(CARD_CODE, called.getLow(), called.getHigh());
+    }
+
+    private static boolean hasLine(List<List<Integer>> card, Set<Integer> called) {
+        boolean diagonal = true;
+        boolean antiDiagonal = true;
+        for (int i = 0; i < BingoDeck.CARD_SIZE; i++) {
+            boolean row = true;
+            boolean column = true;
+            for (int j = 0; j < BingoDeck.CARD_SIZE; j++) {
+                row &= isMarked(card.get(i).get(j), called);
+                column &= isMarked(card.get(j).get(i), called);
+            }
+            if (row || column) {
+                return true;
+            }
+            diagonal &= isMarked(card.get(i).get(i), called);
+            antiDiagonal &= isMarked(card.get(i).get(BingoDeck.CARD_SIZE - 1 - i), called);
+        }
+        return diagonal || antiDiagonal;
+    }
+
+    private static boolean isMarked(int cell, Set<Integer> called) {
+        return cell == 0 || called.contains(cell);
+    }
+}
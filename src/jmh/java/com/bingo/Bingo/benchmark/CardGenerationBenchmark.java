@@ -0,0 +1,35 @@
+package com.bingo.Bingo.benchmark;
+
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.utils.GameFunctions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Card generation: one random card, and the whole 400-card deck with duplicate rejection
+ * (what the old per-request card generation with card signatures was replaced by).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardGenerationBenchmark {
+
+    private final Random random = new Random(400);
+    private long seed;
+
+    @Benchmark
+    public List<List<Integer>> generateCard() {
+        return GameFunctions.generateBingoCard(random);
+    }
+
+    @Benchmark
+    public BingoDeck generateDeck() {
+        return BingoDeck.generate(seed++);
+    }
+}
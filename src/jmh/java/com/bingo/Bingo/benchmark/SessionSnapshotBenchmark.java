@@ -0,0 +1,92 @@
+package com.bingo.Bingo.benchmark;
+
+import com.bingo.Bingo.common.enums.GameStatus;
+import com.bingo.Bingo.dto.response.GameSessionResponse;
+import com.bingo.Bingo.dto.response.SessionSnapshot;
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.entity.GameSession;
+import com.bingo.Bingo.entity.PlayerGameSession;
+import com.bingo.Bingo.entity.User;
+import com.bingo.Bingo.logging.DiagnosticLog;
+import com.bingo.Bingo.service.Impl.SessionSnapshotBuilder;
+import com.bingo.Bingo.state.InMemorySessionStateStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing a session snapshot, as done after every change to a session,
+ * at 10, 100 and 400 players with 40 numbers called. Runs the snapshot builder the game
+ * session service uses, over an in-memory state store.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionSnapshotBenchmark {
+
+    private static final String SESSION_CODE = "GAME_BENCH";
+
+    @Param({"10", "100", "400"})
+    public int players;
+
+    private SessionSnapshotBuilder builder;
+    private GameSession gameSession;
+    private BingoDeck deck;
+    private List<Integer> calledNumbers;
+
+    @Setup
+    public void setUp() {
+        InMemorySessionStateStore sessionStateStore = new InMemorySessionStateStore();
+        builder = new SessionSnapshotBuilder(sessionStateStore, new ObjectMapper(),
+                new DiagnosticLog(new StandardEnvironment(), 10_000), 10);
+
+        List<PlayerGameSession> playerSessions = new ArrayList<>();
+        for (int i = 1; i <= players; i++) {
+            User user = User.builder()
+                    .id((long) i)
+                    .telegramId(100_000L + i)
+                    .firstName("Player" + i)
+                    .userName("player_" + i)
+                    .build();
+            playerSessions.add(PlayerGameSession.builder()
+                    .id((long) i)
+                    .user(user)
+                    .selectedCardCode(i)
+                    .isWinner(false)
+                    .build());
+            sessionStateStore.claimCard(SESSION_CODE, i);
+        }
+        calledNumbers = new ArrayList<>();
+        for (int n = 1; n <= 40; n++) calledNumbers.add((n * 37) % 75 + 1);
+
+        gameSession = GameSession.builder()
+                .id(1L)
+                .sessionCode(SESSION_CODE)
+                .status(GameStatus.ONGOING)
+                .phase("gameRoom")
+                .countdown(0)
+                .gameActive(true)
+                .currentCall(calledNumbers.get(calledNumbers.size() - 1))
+                .playerSessions(playerSessions)
+                .calledNumbers(calledNumbers)
+                .build();
+        deck = BingoDeck.generate(1);
+    }
+
+    @Benchmark
+    public GameSessionResponse buildResponse() {
+        return builder.buildResponse(gameSession, deck, calledNumbers, 1);
+    }
+
+    @Benchmark
+    public SessionSnapshot buildAndSerialize() {
+        return builder.build(gameSession, deck, calledNumbers, 1);
+    }
+}
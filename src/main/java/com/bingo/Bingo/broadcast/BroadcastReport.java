@@ -0,0 +1,18 @@
+package com.bingo.Bingo.broadcast;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastReport {
+    private int recipients;
+    private int sent;
+    private int failed;
+    private int rateLimited; // 429 responses that were retried after the requested delay
+    private long elapsedMs;
+}
@@ -0,0 +1,11 @@
+package com.bingo.Bingo.broadcast;
+
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+/**
+ * Delivers one text message to one chat, e.g. through the bot's {@code execute}.
+ */
+@FunctionalInterface
+public interface MessageSender {
+    void send(long chatId, String text) throws TelegramApiException;
+}
@@ -0,0 +1,183 @@
+package com.bingo.Bingo.broadcast;
+
+import com.bingo.Bingo.metrics.GameMetrics;
+import com.bingo.Bingo.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends one message to many chats without tying up the caller.
+ * <p>
+ * Recipients are streamed from the database one keyset page at a time and each message is sent
+ * on its own virtual thread, with a cap on messages in flight. Sends are paced by a global token bucket
+ * (Telegram allows about 30 messages a second per bot) and a minimum interval per chat; a 429
+ * response pauses the global bucket for the requested retry-after and the message is retried.
+ * Deliveries, retries and pacing waits are recorded in {@link GameMetrics}.
+ */
+@Component
+@Slf4j
+public class TelegramBroadcaster {
+
+    private static final int MAX_RETRIES = 3;
+
+    private final UserRepository userRepository;
+    private final GameMetrics gameMetrics;
+    private final TokenBucket globalLimit;
+    private final long perChatIntervalNanos;
+    private final int maxInFlight;
+    private final int pageSize;
+
+    private final Map<Long, Long> nextChatSlot = new ConcurrentHashMap<>();
+    private final AtomicLong broadcastIds = new AtomicLong();
+
+    public TelegramBroadcaster(UserRepository userRepository,
+                               GameMetrics gameMetrics,
+                               @Value("${bingo.telegram.broadcast.messages-per-second:25}") double messagesPerSecond,
+                               @Value("${bingo.telegram.broadcast.per-chat-interval-ms:1000}") long perChatIntervalMs,
+                               @Value("${bingo.telegram.broadcast.max-in-flight:32}") int maxInFlight,
+                               @Value("${bingo.telegram.broadcast.page-size:500}") int pageSize) {
+        this.userRepository = userRepository;
+        this.gameMetrics = gameMetrics;
+        this.globalLimit = new TokenBucket(messagesPerSecond, (int) Math.max(1, messagesPerSecond));
+        this.perChatIntervalNanos = TimeUnit.MILLISECONDS.toNanos(perChatIntervalMs);
+        this.maxInFlight = maxInFlight;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Send a message to every registered user.
+     */
+    public CompletableFuture<BroadcastReport> broadcastToAllUsers(String text, MessageSender sender) {
+        return broadcast(userRepository.streamTelegramIds(pageSize).iterator(), text, sender);
+    }
+
+    /**
+     * Send a message to each chat produced by {@code chatIds}, which is consumed lazily.
+     */
+    public CompletableFuture<BroadcastReport> broadcast(Iterator<Long> chatIds, String text, MessageSender sender) {
+        long broadcastId = broadcastIds.incrementAndGet();
+        CompletableFuture<BroadcastReport> result = new CompletableFuture<>();
+        Thread.ofVirtual().name("broadcast-" + broadcastId).start(() -> {
+            try {
+                result.complete(run(broadcastId, chatIds, text, sender));
+            } catch (Throwable t) {
+                log.error("Broadcast {} failed: {}", broadcastId, t.getMessage(), t);
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    private BroadcastReport run(long broadcastId, Iterator<Long> chatIds, String text, MessageSender sender)
+            throws InterruptedException {
+        long started = System.nanoTime();
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger rateLimited = new AtomicInteger();
+        int recipients = 0;
+        pruneChatSlots();
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (chatIds.hasNext()) {
+                long chatId = chatIds.next();
+                long queuedAt = System.nanoTime();
+                inFlight.acquire();
+                recipients++;
+                senders.execute(() -> {
+                    try {
+                        boolean delivered = deliver(chatId, text, sender, queuedAt, rateLimited);
+                        (delivered ? sent : failed).incrementAndGet();
+                        gameMetrics.telegramSent(delivered);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                if (recipients % pageSize == 0) {
+                    log.info("Broadcast {}: {} queued, {} sent, {} failed, {} rate limited",
+                            broadcastId, recipients, sent.get(), failed.get(), rateLimited.get());
+                }
+            }
+        }
+
+        BroadcastReport report = BroadcastReport.builder()
+                .recipients(recipients)
+                .sent(sent.get())
+                .failed(failed.get())
+                .rateLimited(rateLimited.get())
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+                .build();
+        gameMetrics.broadcastFinished(System.nanoTime() - started);
+        log.info("Broadcast {} finished: {}", broadcastId, report);
+        return report;
+    }
+
+    private boolean deliver(long chatId, String text, MessageSender sender, long queuedAt, AtomicInteger rateLimited) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                awaitChatSlot(chatId);
+                globalLimit.acquire();
+                if (attempt == 0) {
+                    gameMetrics.telegramQueued(System.nanoTime() - queuedAt);
+                }
+                sender.send(chatId, text);
+                return true;
+            } catch (TelegramApiException e) {
+                Integer retryAfter = retryAfterSeconds(e);
+                if (retryAfter == null || attempt >= MAX_RETRIES) {
+                    log.debug("Could not send broadcast to chat {}: {}", chatId, e.getMessage());
+                    return false;
+                }
+                rateLimited.incrementAndGet();
+                gameMetrics.telegramRateLimited();
+                log.warn("Telegram rate limit hit; pausing broadcasts for {}s", retryAfter);
+                globalLimit.pause(TimeUnit.SECONDS.toNanos(retryAfter));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (RuntimeException e) {
+                log.debug("Could not send broadcast to chat {}: {}", chatId, e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Wait for this chat's next free send slot, so no chat gets more than one message per interval.
+     */
+    private void awaitChatSlot(long chatId) throws InterruptedException {
+        long now = System.nanoTime();
+        long slot = nextChatSlot.merge(chatId, now, (previous, requested) -> Math.max(requested, previous + perChatIntervalNanos));
+        if (slot > now) {
+            TimeUnit.NANOSECONDS.sleep(slot - now);
+        }
+    }
+
+    private void pruneChatSlots() {
+        long idleBefore = System.nanoTime() - perChatIntervalNanos;
+        nextChatSlot.values().removeIf(slot -> slot < idleBefore);
+    }
+
+    private static Integer retryAfterSeconds(TelegramApiException e) {
+        if (e instanceof TelegramApiRequestException request
+                && Integer.valueOf(429).equals(request.getErrorCode())
+                && request.getParameters() != null) {
+            return request.getParameters().getRetryAfter();
+        }
+        return null;
+    }
+}
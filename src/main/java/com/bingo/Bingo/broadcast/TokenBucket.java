@@ -0,0 +1,75 @@
+package com.bingo.Bingo.broadcast;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe token bucket. Permits refill continuously at a fixed rate up to a burst size;
+ * callers reserve a permit and wait until it becomes usable, so waiting callers are served
+ * at the configured rate rather than all at once. The bucket can be paused, e.g. when the
+ * remote side asks to back off.
+ */
+public final class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive: " + permitsPerSecond + ", " + burst);
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserve one permit.
+     *
+     * @return nanoseconds the caller must wait before using it
+     */
+    public synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        tokens -= 1;
+        long wait = Math.max(0, lastRefill - now);
+        if (tokens < 0) {
+            wait += (long) Math.ceil(-tokens / permitsPerNano);
+        }
+        return wait;
+    }
+
+    public void acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Hand out no permits for the given time; refilling starts again from empty afterwards.
+     */
+    public synchronized void pause(long nanos) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        tokens = Math.min(tokens, 0);
+        lastRefill = Math.max(lastRefill, now + nanos);
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bingo.Bingo.cache;
+
+import com.bingo.Bingo.dto.response.UserCacheStats;
+import com.bingo.Bingo.dto.response.UserView;
+import com.bingo.Bingo.mapper.UserMapper;
+import com.bingo.Bingo.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Bounded near cache of {@link UserView}s keyed by Telegram ID, in front of {@link UserRepository}.
+ * Entries expire after a fixed time; anything that changes a user's row (registration, balance
+ * updates) must call {@link #invalidate} so the next lookup reloads it. Unknown IDs are not cached,
+ * so a user who registers is seen straight away.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserView> users;
+
+    public UserCache(UserRepository userRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${bingo.users.cache.max-size:10000}") long maxSize,
+                     @Value("${bingo.users.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+    }
+
+    public Optional<UserView> find(Long telegramId) {
+        if (telegramId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(users.get(telegramId, id -> userRepository.findByTelegramId(id)
+                .map(UserMapper::toView)
+                .orElse(null)));
+    }
+
+    public void invalidate(Long telegramId) {
+        users.invalidate(telegramId);
+    }
+
+    public void invalidateAll(Collection<Long> telegramIds) {
+        users.invalidateAll(telegramIds);
+    }
+
+    public UserCacheStats stats() {
+        CacheStats stats = users.stats();
+        return UserCacheStats.builder()
+                .size(users.estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictions(stats.evictionCount())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.bingo.Bingo.common.enums;
+
+public enum GameEventType {
+    SESSION_CREATED,
+    COUNTDOWN,
+    PHASE_CHANGED,
+    CARD_TAKEN,
+    CARD_RELEASED,
+    NUMBER_CALLED,
+    WINNER
+}
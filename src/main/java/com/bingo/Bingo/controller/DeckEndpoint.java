@@ -0,0 +1,37 @@
+package com.bingo.Bingo.controller;
+
+import com.bingo.Bingo.dto.response.DeckVersionResponse;
+import com.bingo.Bingo.service.DeckService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deck administration at {@code /actuator/deck}, kept out of the public game API. Like the other
+ * operational endpoints it is only served over HTTP once {@code deck} is added to
+ * {@code management.endpoints.web.exposure.include}.
+ */
+@Component
+@Endpoint(id = "deck")
+@RequiredArgsConstructor
+public class DeckEndpoint {
+
+    private final DeckService deckService;
+
+    @ReadOperation
+    public DeckVersionResponse activeVersion() {
+        return deckService.getActiveVersion();
+    }
+
+    /**
+     * Store a new deck and play the next games with it; the game in progress keeps its cards.
+     * {@code POST /actuator/deck} with a JSON body, {@code {"seed": ...}} or {@code {}} for a random seed.
+     */
+    @WriteOperation
+    public DeckVersionResponse rotate(@Nullable Long seed) {
+        return deckService.rotate(seed);
+    }
+}
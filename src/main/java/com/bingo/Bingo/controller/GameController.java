@@ -4,16 +4,25 @@ import com.bingo.Bingo.dto.request.JoinGameRequest;
 import com.bingo.Bingo.dto.request.BingoCallRequest;
 import com.bingo.Bingo.dto.response.BingoCardsResponse;
 import com.bingo.Bingo.dto.response.GameSessionResponse;
+import com.bingo.Bingo.dto.response.AvailableCardsResponse;
+import com.bingo.Bingo.dto.response.DeckVersionResponse;
+import com.bingo.Bingo.dto.response.SessionSnapshot;
+import com.bingo.Bingo.service.DeckService;
 import com.bingo.Bingo.service.GameSessionService;
-import com.bingo.Bingo.utils.GameFunctions;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/games")
@@ -21,32 +30,71 @@ import java.util.ArrayList;
 public class GameController {
 
     private final GameSessionService gameSessionService;
+    private final DeckService deckService;
+
+    @Value("${bingo.session.long-poll-timeout-ms:25000}")
+    private long longPollTimeoutMs;
 
     @GetMapping("/start")
     public ResponseEntity<List<BingoCardsResponse>> startGame() {
         return ResponseEntity.ok(gameSessionService.generateBingoCard());
     }
 
+    @GetMapping("/deck")
+    public ResponseEntity<DeckVersionResponse> getDeckVersion() {
+        return ResponseEntity.ok(deckService.getActiveVersion());
+    }
+
     @PostMapping("/join")
     public ResponseEntity<GameSessionResponse> joinGame(@RequestBody JoinGameRequest request) {
         return ResponseEntity.ok(gameSessionService.joinGame(request));
     }
 
     @GetMapping("/session/{sessionCode}")
-    public ResponseEntity<GameSessionResponse> getGameSession(@PathVariable String sessionCode) {
-        return ResponseEntity.ok(gameSessionService.getGameSession(sessionCode));
+    public ResponseEntity<byte[]> getGameSession(@PathVariable String sessionCode, WebRequest webRequest) {
+        SessionSnapshot snapshot = gameSessionService.getSnapshot(sessionCode);
+        if (notModified(webRequest, snapshot)) {
+            return null;
+        }
+        return snapshotResponse(snapshot);
+    }
+
+    /**
+     * Long poll: answers as soon as the session is past version {@code since} (at once if it
+     * already is), or with 304 Not Modified when nothing changed before the timeout.
+     */
+    @GetMapping("/session/{sessionCode}/changes")
+    public DeferredResult<ResponseEntity<byte[]>> awaitSessionChange(@PathVariable String sessionCode,
+                                                                     @RequestParam(defaultValue = "0") long since) {
+        DeferredResult<ResponseEntity<byte[]>> result = new DeferredResult<>(longPollTimeoutMs);
+        CompletableFuture<SessionSnapshot> change = gameSessionService.awaitChange(sessionCode, since);
+        result.onTimeout(() -> {
+            change.cancel(false);
+            result.setResult(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        });
+        change.thenAccept(snapshot -> result.setResult(snapshotResponse(snapshot)));
+        return result;
     }
 
     @GetMapping("/session/{sessionCode}/user/{telegramId}")
     public ResponseEntity<GameSessionResponse> getGameSessionWithUser(
             @PathVariable String sessionCode,
-            @PathVariable Long telegramId) {
-        return ResponseEntity.ok(gameSessionService.getGameSessionWithUser(sessionCode, telegramId));
+            @PathVariable Long telegramId,
+            WebRequest webRequest) {
+        if (notModified(webRequest, gameSessionService.getSnapshot(sessionCode))) {
+            return null;
+        }
+        GameSessionResponse response = gameSessionService.getGameSessionWithUser(sessionCode, telegramId);
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @GetMapping("/active")
-    public ResponseEntity<GameSessionResponse> getActiveGameSession() {
-        return ResponseEntity.ok(gameSessionService.getActiveGameSession());
+    public ResponseEntity<byte[]> getActiveGameSession(WebRequest webRequest) {
+        SessionSnapshot snapshot = gameSessionService.getActiveSnapshot();
+        if (notModified(webRequest, snapshot)) {
+            return null;
+        }
+        return snapshotResponse(snapshot);
     }
 
     @GetMapping("/next")
@@ -60,8 +108,12 @@ public class GameController {
     }
 
     @GetMapping("/status")
-    public ResponseEntity<GameSessionResponse> getDetailedGameStatus() {
-        return ResponseEntity.ok(gameSessionService.getDetailedGameStatus());
+    public ResponseEntity<GameSessionResponse> getDetailedGameStatus(WebRequest webRequest) {
+        if (notModified(webRequest, gameSessionService.getActiveSnapshot())) {
+            return null;
+        }
+        GameSessionResponse response = gameSessionService.getDetailedGameStatus();
+        return ResponseEntity.ok().eTag(eTag(response)).body(response);
     }
 
     @PostMapping("/bingo")
@@ -175,9 +227,13 @@ public class GameController {
     }
     
     @GetMapping("/game-status/{sessionCode}")
-    public ResponseEntity<Map<String, Object>> getGameStatus(@PathVariable String sessionCode) {
+    public ResponseEntity<Map<String, Object>> getGameStatus(@PathVariable String sessionCode, WebRequest webRequest) {
         try {
-            GameSessionResponse session = gameSessionService.getGameSession(sessionCode);
+            SessionSnapshot snapshot = gameSessionService.getSnapshot(sessionCode);
+            if (notModified(webRequest, snapshot)) {
+                return null;
+            }
+            GameSessionResponse session = snapshot.getResponse();
             Map<String, Object> response = new HashMap<>();
             response.put("sessionCode", session.getSessionCode());
             response.put("phase", session.getPhase());
@@ -189,7 +245,7 @@ public class GameController {
             response.put("selectedCardCodes", session.getSelectedCardCodes());
             response.put("players", session.getPlayers());
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(eTag(session)).body(response);
         } catch (Exception e) {
             Map<String, Object> errorInfo = new HashMap<>();
             errorInfo.put("error", e.getMessage());
@@ -222,26 +278,14 @@ public class GameController {
     @GetMapping("/debug/cards/{sessionCode}")
     public ResponseEntity<Map<String, Object>> getCardSelectionDebugInfo(@PathVariable String sessionCode) {
         try {
-            GameSessionResponse session = gameSessionService.getGameSession(sessionCode);
+            AvailableCardsResponse cards = gameSessionService.getAvailableCards(sessionCode, 0, Integer.MAX_VALUE);
             Map<String, Object> debugInfo = new HashMap<>();
             debugInfo.put("sessionCode", sessionCode);
-            debugInfo.put("selectedCardCodes", session.getSelectedCardCodes());
-            debugInfo.put("playerCount", session.getPlayerCount());
-            debugInfo.put("phase", session.getPhase());
-            debugInfo.put("gameActive", session.getGameActive());
-            
-            // Add card availability info
-            List<Integer> allCardCodes = new ArrayList<>();
-            for (int i = 1; i <= 400; i++) {
-                allCardCodes.add(i);
-            }
-            List<Integer> availableCards = new ArrayList<>(allCardCodes);
-            availableCards.removeAll(session.getSelectedCardCodes());
-            
-            debugInfo.put("totalCards", 400);
-            debugInfo.put("takenCards", session.getSelectedCardCodes());
-            debugInfo.put("availableCards", availableCards);
-            debugInfo.put("availableCount", availableCards.size());
+            debugInfo.put("selectedCardCodes", cards.getTakenCards());
+            debugInfo.put("totalCards", cards.getTotalCards());
+            debugInfo.put("takenCards", cards.getTakenCards());
+            debugInfo.put("availableCards", cards.getAvailableCards());
+            debugInfo.put("availableCount", cards.getAvailableCount());
             
             return ResponseEntity.ok(debugInfo);
         } catch (Exception e) {
@@ -252,28 +296,18 @@ public class GameController {
     }
     
     @GetMapping("/available-cards/{sessionCode}")
-    public ResponseEntity<Map<String, Object>> getAvailableCards(@PathVariable String sessionCode) {
+    public ResponseEntity<Map<String, Object>> getAvailableCards(@PathVariable String sessionCode,
+                                                                 @RequestParam(defaultValue = "0") int offset,
+                                                                 @RequestParam(defaultValue = "400") int limit) {
         try {
-            GameSessionResponse session = gameSessionService.getGameSession(sessionCode);
+            AvailableCardsResponse cards = gameSessionService.getAvailableCards(sessionCode, offset, limit);
             Map<String, Object> response = new HashMap<>();
             
-            // Get all available card codes (1-400)
-            List<Integer> allCardCodes = new ArrayList<>();
-            for (int i = 1; i <= 400; i++) {
-                allCardCodes.add(i);
-            }
-            
-            // Remove already taken cards
-            List<Integer> availableCards = new ArrayList<>(allCardCodes);
-            if (session.getSelectedCardCodes() != null) {
-                availableCards.removeAll(session.getSelectedCardCodes());
-            }
-            
             response.put("sessionCode", sessionCode);
-            response.put("availableCards", availableCards);
-            response.put("availableCount", availableCards.size());
-            response.put("takenCount", session.getSelectedCardCodes() != null ? session.getSelectedCardCodes().size() : 0);
-            response.put("totalCards", 400);
+            response.put("availableCards", cards.getAvailableCards());
+            response.put("availableCount", cards.getAvailableCount());
+            response.put("takenCount", cards.getTakenCount());
+            response.put("totalCards", cards.getTotalCards());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -286,36 +320,20 @@ public class GameController {
     @GetMapping("/random-available-card/{sessionCode}")
     public ResponseEntity<Map<String, Object>> getRandomAvailableCard(@PathVariable String sessionCode) {
         try {
-            GameSessionResponse session = gameSessionService.getGameSession(sessionCode);
+            AvailableCardsResponse cards = gameSessionService.getRandomAvailableCard(sessionCode);
             Map<String, Object> response = new HashMap<>();
             
-            // Get all available card codes (1-400)
-            List<Integer> allCardCodes = new ArrayList<>();
-            for (int i = 1; i <= 400; i++) {
-                allCardCodes.add(i);
-            }
-            
-            // Remove already taken cards
-            List<Integer> availableCards = new ArrayList<>(allCardCodes);
-            if (session.getSelectedCardCodes() != null) {
-                availableCards.removeAll(session.getSelectedCardCodes());
-            }
-            
-            if (availableCards.isEmpty()) {
+            if (cards.getRandomCard() == null) {
                 response.put("error", "No cards available");
                 response.put("availableCount", 0);
                 return ResponseEntity.ok(response);
             }
             
-            // Select a random available card
-            int randomIndex = (int) (Math.random() * availableCards.size());
-            Integer randomCard = availableCards.get(randomIndex);
-            
             response.put("sessionCode", sessionCode);
-            response.put("randomCard", randomCard);
-            response.put("availableCount", availableCards.size());
-            response.put("takenCount", session.getSelectedCardCodes() != null ? session.getSelectedCardCodes().size() : 0);
-            response.put("totalCards", 400);
+            response.put("randomCard", cards.getRandomCard());
+            response.put("availableCount", cards.getAvailableCount());
+            response.put("takenCount", cards.getTakenCount());
+            response.put("totalCards", cards.getTotalCards());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -334,13 +352,12 @@ public class GameController {
                 return ResponseEntity.badRequest().body(errorInfo);
             }
             
-            // Generate the card data for the requested card code
-            // For now, we'll use the basic method - in production, you'd want deterministic card generation
-            List<List<Integer>> cardNumbers = GameFunctions.generateBingoCard();
+            // Served from the deck of the current game, so this matches the card handed out by /start
+            BingoCardsResponse card = gameSessionService.getCard(cardCode);
             
             Map<String, Object> response = new HashMap<>();
-            response.put("cardCode", cardCode);
-            response.put("cardNumbers", cardNumbers);
+            response.put("cardCode", card.getCardCode());
+            response.put("cardNumbers", card.getCardNumbers());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -349,4 +366,32 @@ public class GameController {
             return ResponseEntity.badRequest().body(errorInfo);
         }
     }
+
+    /**
+     * Serve a session snapshot as the JSON it was serialized to when the session last changed.
+     */
+    private ResponseEntity<byte[]> snapshotResponse(SessionSnapshot snapshot) {
+        return ResponseEntity.ok()
+                .eTag(eTag(snapshot.getResponse()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJson());
+    }
+
+    /**
+     * Answer a conditional GET from the session version alone. Returns true, with the 304
+     * already set on the response, when the client's If-None-Match still matches.
+     */
+    private boolean notModified(WebRequest webRequest, SessionSnapshot snapshot) {
+        // Version 0 is the placeholder served when loading failed; never let clients cache it
+        return snapshot.getVersion() > 0
+                && webRequest.checkNotModified(eTag(snapshot.getResponse().getSessionCode(), snapshot.getVersion()));
+    }
+
+    private static String eTag(GameSessionResponse response) {
+        return response.getVersion() != null ? eTag(response.getSessionCode(), response.getVersion()) : null;
+    }
+
+    private static String eTag(String sessionCode, long version) {
+        return "\"" + sessionCode + "-" + version + "\"";
+    }
 }
@@ -1,17 +1,23 @@
 package com.bingo.Bingo.controller;
 
+import com.bingo.Bingo.cache.UserCache;
 import com.bingo.Bingo.dto.request.UserDto;
+import com.bingo.Bingo.dto.response.RegistrationReport;
+import com.bingo.Bingo.dto.response.UserCacheStats;
 import com.bingo.Bingo.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/users")
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final UserCache userCache;
 
     @PostMapping("/register")
     public ResponseEntity<String> registerUser(@RequestBody UserDto userDto) {
@@ -20,10 +26,20 @@ public class UserController {
                 registeredUser.getFirstName(), registeredUser.getPhoneNumber()));
     }
 
+    @PostMapping("/register/batch")
+    public ResponseEntity<RegistrationReport> registerUsers(@RequestBody List<UserDto> userDtos) {
+        return ResponseEntity.ok(userService.registerUsers(userDtos));
+    }
+
     @GetMapping("/{telegramId}")
     public ResponseEntity<UserDto> getUserByTelegramId(@PathVariable Long telegramId) {
         UserDto user = userService.getUserByTelegramId(telegramId);
         return ResponseEntity.ok(user);
     }
 
+    @GetMapping("/cache-stats")
+    public ResponseEntity<UserCacheStats> getCacheStats() {
+        return ResponseEntity.ok(userCache.stats());
+    }
+
 }
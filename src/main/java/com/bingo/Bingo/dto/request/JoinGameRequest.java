@@ -14,5 +14,5 @@ import java.util.List;
 public class JoinGameRequest {
     private Long telegramId;
     private Integer selectedCardCode;
-    private List<List<Integer>> cardNumbers;
+    private List<List<Integer>> cardNumbers; // Ignored: the server's deck defines what each card code holds
 }
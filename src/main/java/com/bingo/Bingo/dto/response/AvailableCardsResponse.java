@@ -0,0 +1,22 @@
+package com.bingo.Bingo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableCardsResponse {
+    private String sessionCode;
+    private Integer totalCards;
+    private Integer takenCount;
+    private Integer availableCount;
+    private List<Integer> takenCards;
+    private List<Integer> availableCards;
+    private Integer randomCard;
+}
@@ -0,0 +1,17 @@
+package com.bingo.Bingo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeckVersionResponse {
+    private long version;
+    private long seed;
+    private int cardCount;
+    private Long activatedAt; // epoch millis
+}
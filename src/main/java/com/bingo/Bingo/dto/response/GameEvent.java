@@ -0,0 +1,31 @@
+package com.bingo.Bingo.dto.response;
+
+import com.bingo.Bingo.common.enums.GameEventType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Small delta pushed to session subscribers; only the fields relevant to the event type are set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameEvent {
+    private GameEventType type;
+    private String sessionCode;
+    private String phase;
+    private Integer countdown;
+    private Integer number;
+    private String letter; // Letter prefix of the called number (e.g., "B")
+    private Integer callOrder; // Position of the number in the call sequence, starting at 1
+    private Integer cardCode;
+    private Integer playerCount;
+    private String winner;
+    private Integer winningCardCode;
+    private Long timestamp;
+}
@@ -10,11 +10,12 @@ import java.util.List;
 import com.bingo.Bingo.dto.response.PlayerInfo;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class GameSessionResponse {
     private String sessionCode;
+    private Long version; // Bumped on every change to the session
     private String phase;
     private Integer countdown;
     private Boolean gameActive;
@@ -0,0 +1,16 @@
+package com.bingo.Bingo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationReport {
+    private int requested;
+    private int registered;
+    private int alreadyRegistered;
+}
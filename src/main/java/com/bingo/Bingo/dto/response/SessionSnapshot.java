@@ -0,0 +1,18 @@
+package com.bingo.Bingo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable view of a game session as of one state change, together with its JSON form.
+ * A new snapshot with the next version is published whenever the session changes, so reads
+ * can hand out the same response (or bytes) without touching the session itself.
+ * The response is shared between readers: derive per-user views with {@code toBuilder()}.
+ */
+@Getter
+@AllArgsConstructor
+public final class SessionSnapshot {
+    private final long version;
+    private final GameSessionResponse response;
+    private final byte[] json;
+}
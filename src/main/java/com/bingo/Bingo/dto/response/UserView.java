@@ -0,0 +1,19 @@
+package com.bingo.Bingo.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Read-only copy of a user's profile, safe to share between threads and keep in the user cache.
+ */
+@Value
+@Builder
+public class UserView {
+    Long id;
+    Long telegramId;
+    String phoneNumber;
+    String userName;
+    String firstName;
+    String lastName;
+    Double totalBalance;
+}
@@ -0,0 +1,219 @@
+package com.bingo.Bingo.engine;
+
+import com.bingo.Bingo.utils.GameFunctions;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Immutable deck of BINGO cards, generated from a seed or rebuilt from stored cells.
+ * Cells are kept in a flat byte array, 24 per card in row-major order with the free space left out
+ * (9,600 bytes for the whole deck), so the same seed always maps the same card code to the same card.
+ * Each card is also compiled into {@link #LINES_PER_CARD} line masks over {@link CalledNumbers},
+ * which turns a win check into a few AND/compare operations (76,800 bytes for the deck). Nothing
+ * else is kept: a card's rows are built from its cells when asked for.
+ */
+public final class BingoDeck {
+
+    public static final int DECK_SIZE = 400;
+    public static final int CARD_SIZE = 5;
+    // The free space in the middle of the card is implied rather than stored
+    public static final int CELLS_PER_CARD = CARD_SIZE * CARD_SIZE - 1;
+    private static final int FREE_POSITION = CARD_SIZE * CARD_SIZE / 2;
+    // 5 rows, 5 columns and 2 diagonals
+    public static final int LINES_PER_CARD = 2 * CARD_SIZE + 2;
+    public static final int NO_LINE = -1;
+
+    private final byte[] cells;
+    // Two longs (low, high) per line, LINES_PER_CARD lines per card
+    private final long[] lineMasks;
+
+    private BingoDeck(byte[] cells) {
+        this.cells = cells;
+        this.lineMasks = compileLineMasks(cells);
+    }
+
+    /**
+     * Build a deck of {@link #DECK_SIZE} distinct cards from the given seed.
+     * Two cards are considered duplicates when they hold the same set of numbers.
+     */
+    public static BingoDeck generate(long seed) {
+        Random random = new Random(seed);
+        byte[] cells = new byte[DECK_SIZE * CELLS_PER_CARD];
+        Set<CardKey> seen = new HashSet<>();
+
+        for (int card = 0; card < DECK_SIZE; card++) {
+            List<List<Integer>> numbers;
+            do {
+                numbers = GameFunctions.generateBingoCard(random);
+            } while (!seen.add(CardKey.of(numbers)));
+
+            for (int position = 0; position < CARD_SIZE * CARD_SIZE; position++) {
+                if (position != FREE_POSITION) {
+                    cells[card * CELLS_PER_CARD + slot(position)] =
+                            numbers.get(position / CARD_SIZE).get(position % CARD_SIZE).byteValue();
+                }
+            }
+        }
+        return new BingoDeck(cells);
+    }
+
+    /**
+     * Rebuild a deck from its cells, laid out as {@link #cell(int, int, int)} indexes them.
+     */
+    public static BingoDeck of(byte[] cells) {
+        if (cells.length != DECK_SIZE * CELLS_PER_CARD) {
+            throw new IllegalArgumentException("Expected " + DECK_SIZE * CELLS_PER_CARD + " cells, got " + cells.length);
+        }
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] < 1 || cells[i] > CalledNumbers.MAX_NUMBER) {
+                throw new IllegalArgumentException("Card " + (i / CELLS_PER_CARD + 1) + " holds invalid number " + cells[i]);
+            }
+        }
+        return new BingoDeck(cells.clone());
+    }
+
+    /**
+     * Position of a card's cell in the flat layout used by {@link #of(byte[])}.
+     * The free space has no cell.
+     */
+    public static int cell(int cardCode, int row, int col) {
+        int position = row * CARD_SIZE + col;
+        if (position == FREE_POSITION) {
+            throw new IllegalArgumentException("The free space is not stored");
+        }
+        return index(cardCode) * CELLS_PER_CARD + slot(position);
+    }
+
+    /**
+     * Copy of the deck's cells, in the layout {@link #of(byte[])} reads.
+     */
+    public byte[] cells() {
+        return cells.clone();
+    }
+
+    public static boolean isValidCardCode(int cardCode) {
+        return cardCode >= 1 && cardCode <= DECK_SIZE;
+    }
+
+    /**
+     * Number at the given position of a card, 0 for the free space.
+     */
+    public int number(int cardCode, int row, int col) {
+        return numberAt(cells, index(cardCode), row * CARD_SIZE + col);
+    }
+
+    /**
+     * Read-only rows of the card with the given code (1-400), built from its cells on each call.
+     */
+    public List<List<Integer>> cardNumbers(int cardCode) {
+        int card = index(cardCode);
+        List<List<Integer>> rows = new ArrayList<>(CARD_SIZE);
+        for (int row = 0; row < CARD_SIZE; row++) {
+            Integer[] values = new Integer[CARD_SIZE];
+            for (int col = 0; col < CARD_SIZE; col++) {
+                values[col] = numberAt(cells, card, row * CARD_SIZE + col);
+            }
+            rows.add(List.of(values));
+        }
+        return List.copyOf(rows);
+    }
+
+    /**
+     * Bytes held by the deck's cells and line masks.
+     */
+    public int sizeInBytes() {
+        return cells.length + lineMasks.length * Long.BYTES;
+    }
+
+    /**
+     * Whether the card completes any line against the called numbers.
+     */
+    public boolean hasBingo(int cardCode, long calledLow, long calledHigh) {
+        return winningLine(cardCode, calledLow, calledHigh) != NO_LINE;
+    }
+
+    /**
+     * Index of the first completed line (rows 0-4, columns 5-9, diagonals 10-11),
+     * or {@link #NO_LINE} if the card has no BINGO yet.
+     */
+    public int winningLine(int cardCode, long calledLow, long calledHigh) {
+        int base = index(cardCode) * LINES_PER_CARD * 2;
+        for (int line = 0; line < LINES_PER_CARD; line++) {
+            long maskLow = lineMasks[base + line * 2];
+            long maskHigh = lineMasks[base + line * 2 + 1];
+            if ((calledLow & maskLow) == maskLow && (calledHigh & maskHigh) == maskHigh) {
+                return line;
+            }
+        }
+        return NO_LINE;
+    }
+
+    /**
+     * Cell positions (row * 5 + col) making up each line, in line index order.
+     */
+    public static int[][] linePositions() {
+        int[][] lines = new int[LINES_PER_CARD][CARD_SIZE];
+        for (int i = 0; i < CARD_SIZE; i++) {
+            for (int j = 0; j < CARD_SIZE; j++) {
+                lines[i][j] = i * CARD_SIZE + j;                 // row i
+                lines[CARD_SIZE + i][j] = j * CARD_SIZE + i;     // column i
+            }
+            lines[2 * CARD_SIZE][i] = i * CARD_SIZE + i;                      // main diagonal
+            lines[2 * CARD_SIZE + 1][i] = i * CARD_SIZE + (CARD_SIZE - 1 - i); // anti-diagonal
+        }
+        return lines;
+    }
+
+    private static long[] compileLineMasks(byte[] cells) {
+        int[][] lines = linePositions();
+        long[] masks = new long[DECK_SIZE * LINES_PER_CARD * 2];
+        for (int card = 0; card < DECK_SIZE; card++) {
+            for (int line = 0; line < LINES_PER_CARD; line++) {
+                long low = 0;
+                long high = 0;
+                for (int position : lines[line]) {
+                    int n = numberAt(cells, card, position);
+                    if (n == 0) continue; // free space is always marked
+                    low |= CalledNumbers.lowBit(n);
+                    high |= CalledNumbers.highBit(n);
+                }
+                masks[(card * LINES_PER_CARD + line) * 2] = low;
+                masks[(card * LINES_PER_CARD + line) * 2 + 1] = high;
+            }
+        }
+        return masks;
+    }
+
+    private static int numberAt(byte[] cells, int card, int position) {
+        return position == FREE_POSITION ? 0 : cells[card * CELLS_PER_CARD + slot(position)];
+    }
+
+    private static int slot(int position) {
+        return position < FREE_POSITION ? position : position - 1;
+    }
+
+    private static int index(int cardCode) {
+        if (!isValidCardCode(cardCode)) {
+            throw new IllegalArgumentException("Card code must be between 1 and " + DECK_SIZE + ": " + cardCode);
+        }
+        return cardCode - 1;
+    }
+
+    private record CardKey(long low, long high) {
+        static CardKey of(List<List<Integer>> numbers) {
+            long low = 0;
+            long high = 0;
+            for (List<Integer> row : numbers) {
+                for (int n : row) {
+                    if (n < 64) low |= 1L << n;
+                    else high |= 1L << (n - 64);
+                }
+            }
+            return new CardKey(low, high);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.bingo.Bingo.engine;
+
+import java.util.Collection;
+
+/**
+ * Bitset over the 75 BINGO numbers held in two longs.
+ * Number n (1-64) is bit n-1 of {@code low}, number n (65-75) is bit n-65 of {@code high}.
+ * Written by the thread calling numbers, read lock-free by everyone else.
+ */
+public final class CalledNumbers {
+
+    public static final int MAX_NUMBER = 75;
+
+    private volatile long low;
+    private volatile long high;
+
+    public static CalledNumbers of(Collection<Integer> numbers) {
+        CalledNumbers called = new CalledNumbers();
+        if (numbers != null) {
+            for (Integer n : numbers) {
+                if (n != null) called.add(n);
+            }
+        }
+        return called;
+    }
+
+    /**
+     * Mark a number as called.
+     *
+     * @return false if the number was already called
+     */
+    public synchronized boolean add(int number) {
+        if (contains(number)) {
+            return false;
+        }
+        low |= lowBit(number);
+        high |= highBit(number);
+        return true;
+    }
+
+    public boolean contains(int number) {
+        return (low & lowBit(number)) != 0 || (high & highBit(number)) != 0;
+    }
+
+    public int count() {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public static long lowBit(int number) {
+        checkRange(number);
+        return number <= 64 ? 1L << (number - 1) : 0L;
+    }
+
+    public static long highBit(int number) {
+        checkRange(number);
+        return number > 64 ? 1L << (number - 65) : 0L;
+    }
+
+    private static void checkRange(int number) {
+        if (number < 1 || number > MAX_NUMBER) {
+            throw new IllegalArgumentException("BINGO numbers are between 1 and " + MAX_NUMBER + ": " + number);
+        }
+    }
+}
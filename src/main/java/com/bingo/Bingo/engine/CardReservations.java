@@ -0,0 +1,196 @@
+package com.bingo.Bingo.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free reservation bitmap over the {@link BingoDeck#DECK_SIZE} card codes of one session.
+ * Card code c is bit (c-1) % 64 of word (c-1) / 64; claims and releases are single-bit CAS
+ * updates, so two players can never both claim the same card and readers never block.
+ * Free cards can be counted, ranked and selected a word at a time, which gives constant-time
+ * uniform random picks and paging without materialising the list of free codes.
+ */
+public final class CardReservations {
+
+    private static final int WORDS = (BingoDeck.DECK_SIZE + Long.SIZE - 1) / Long.SIZE;
+    public static final int NONE = 0;
+
+    private final AtomicLongArray bits = new AtomicLongArray(WORDS);
+
+    /**
+     * Reserve a card.
+     *
+     * @return false if the card was already reserved
+     */
+    public boolean claim(int cardCode) {
+        int word = word(cardCode);
+        long mask = mask(cardCode);
+        while (true) {
+            long current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (bits.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Free a card.
+     *
+     * @return false if the card was not reserved
+     */
+    public boolean release(int cardCode) {
+        int word = word(cardCode);
+        long mask = mask(cardCode);
+        while (true) {
+            long current = bits.get(word);
+            if ((current & mask) == 0) {
+                return false;
+            }
+            if (bits.compareAndSet(word, current, current & ~mask)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Move a reservation from one card to another. The target is claimed first,
+     * so the holder never ends up with neither card.
+     *
+     * @return false if the target card is already reserved; the source is then left untouched
+     */
+    public boolean swap(int fromCardCode, int toCardCode) {
+        if (fromCardCode == toCardCode) {
+            return isTaken(toCardCode);
+        }
+        if (!claim(toCardCode)) {
+            return false;
+        }
+        release(fromCardCode);
+        return true;
+    }
+
+    public boolean isTaken(int cardCode) {
+        return (bits.get(word(cardCode)) & mask(cardCode)) != 0;
+    }
+
+    public int count() {
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            count += Long.bitCount(bits.get(i));
+        }
+        return count;
+    }
+
+    public int availableCount() {
+        return BingoDeck.DECK_SIZE - count();
+    }
+
+    /**
+     * The free card of the given rank (0-based, ascending card code order),
+     * or {@link #NONE} if fewer cards are free.
+     */
+    public int selectAvailable(int rank) {
+        if (rank < 0) {
+            return NONE;
+        }
+        for (int i = 0; i < WORDS; i++) {
+            long free = freeBits(i);
+            int freeInWord = Long.bitCount(free);
+            if (rank < freeInWord) {
+                return i * Long.SIZE + selectBit(free, rank) + 1;
+            }
+            rank -= freeInWord;
+        }
+        return NONE;
+    }
+
+    /**
+     * A uniformly random free card, or {@link #NONE} if every card is taken.
+     */
+    public int randomAvailable(Random random) {
+        while (true) {
+            int available = availableCount();
+            if (available == 0) {
+                return NONE;
+            }
+            int cardCode = selectAvailable(random.nextInt(available));
+            // A concurrent claim can shrink the free set between the count and the select
+            if (cardCode != NONE) {
+                return cardCode;
+            }
+        }
+    }
+
+    /**
+     * Free card codes in ascending order, skipping the first {@code offset} of them.
+     */
+    public List<Integer> availableCodes(int offset, int limit) {
+        List<Integer> codes = new ArrayList<>(Math.max(0, Math.min(limit, BingoDeck.DECK_SIZE)));
+        int skip = Math.max(0, offset);
+        for (int i = 0; i < WORDS && codes.size() < limit; i++) {
+            long free = freeBits(i);
+            int freeInWord = Long.bitCount(free);
+            if (skip >= freeInWord) {
+                skip -= freeInWord;
+                continue;
+            }
+            for (; skip > 0; skip--) {
+                free &= free - 1;
+            }
+            while (free != 0 && codes.size() < limit) {
+                codes.add(i * Long.SIZE + Long.numberOfTrailingZeros(free) + 1);
+                free &= free - 1;
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Reserved card codes in ascending order.
+     */
+    public List<Integer> takenCodes() {
+        List<Integer> codes = new ArrayList<>();
+        for (int i = 0; i < WORDS; i++) {
+            long word = bits.get(i);
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                codes.add(i * Long.SIZE + bit + 1);
+                word &= word - 1;
+            }
+        }
+        return codes;
+    }
+
+    private long freeBits(int word) {
+        long free = ~bits.get(word);
+        int bitsInWord = Math.min(Long.SIZE, BingoDeck.DECK_SIZE - word * Long.SIZE);
+        return bitsInWord == Long.SIZE ? free : free & ((1L << bitsInWord) - 1);
+    }
+
+    private static int selectBit(long word, int rank) {
+        for (int i = 0; i < rank; i++) {
+            word &= word - 1;
+        }
+        return Long.numberOfTrailingZeros(word);
+    }
+
+    private static int word(int cardCode) {
+        checkCardCode(cardCode);
+        return (cardCode - 1) / Long.SIZE;
+    }
+
+    private static long mask(int cardCode) {
+        return 1L << ((cardCode - 1) % Long.SIZE);
+    }
+
+    private static void checkCardCode(int cardCode) {
+        if (!BingoDeck.isValidCardCode(cardCode)) {
+            throw new IllegalArgumentException("Card code must be between 1 and " + BingoDeck.DECK_SIZE + ": " + cardCode);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.bingo.Bingo.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Single-threaded event loop owning the state of one game session.
+ * <p>
+ * Commands are queued and run one at a time on a dedicated virtual thread, so session state
+ * is only ever touched by that thread and needs no locking. A command submitted from the loop
+ * itself runs inline, which lets commands call each other without deadlocking.
+ */
+@Slf4j
+public final class SessionActor {
+
+    private static final Runnable STOP = () -> { };
+
+    private final String name;
+    private final BlockingQueue<Runnable> mailbox = new LinkedBlockingQueue<>();
+    private final Thread loop;
+    private volatile boolean running = true;
+
+    public SessionActor(String name) {
+        this.name = name;
+        this.loop = Thread.ofVirtual().name("session-" + name).start(this::run);
+    }
+
+    /**
+     * Queue a command and wait for its result. Runtime exceptions thrown by the command
+     * are rethrown to the caller unchanged.
+     */
+    public <T> T call(Callable<T> command) {
+        if (isLoopThread()) {
+            return runInline(command);
+        }
+        try {
+            return submit(command).get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for session " + name, e);
+        }
+    }
+
+    /**
+     * Queue a command without waiting for it.
+     */
+    public void execute(Runnable command) {
+        if (isLoopThread()) {
+            command.run();
+            return;
+        }
+        enqueue(() -> {
+            try {
+                command.run();
+            } catch (Exception e) {
+                log.error("Error in session {} command: {}", name, e.getMessage(), e);
+            }
+        });
+    }
+
+    public <T> CompletableFuture<T> submit(Callable<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        enqueue(() -> {
+            try {
+                result.complete(command.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Number of commands waiting to run.
+     */
+    public int pending() {
+        return mailbox.size();
+    }
+
+    public boolean isLoopThread() {
+        return Thread.currentThread() == loop;
+    }
+
+    /**
+     * Stop the loop once the commands already queued have run.
+     */
+    public void stop() {
+        if (running) {
+            running = false;
+            mailbox.add(STOP);
+        }
+    }
+
+    private void enqueue(Runnable command) {
+        if (!running) {
+            throw new IllegalStateException("Session " + name + " is stopped");
+        }
+        mailbox.add(command);
+    }
+
+    private void run() {
+        while (true) {
+            Runnable command;
+            try {
+                command = mailbox.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (command == STOP) {
+                log.debug("Session loop {} stopped", name);
+                return;
+            }
+            command.run();
+        }
+    }
+
+    private static <T> T runInline(Callable<T> command) {
+        try {
+            return command.call();
+        } catch (Exception e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        if (t instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return new RuntimeException(t);
+    }
+}
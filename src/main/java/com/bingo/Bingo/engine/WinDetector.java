@@ -0,0 +1,125 @@
+package com.bingo.Bingo.engine;
+
+import java.util.Arrays;
+
+/**
+ * Incremental winner detection for the cards in play in one session.
+ * <p>
+ * An inverted index maps each number to the (card, line) slots that contain it, and every slot
+ * keeps a counter of cells still missing. Calling a number only touches the slots holding it;
+ * a slot reaching zero makes its card a win candidate straight away.
+ * <p>
+ * {@link #onNumberCalled(int)} must be called from a single thread (the number caller);
+ * {@link #getCandidates()} and {@link #isCandidate(int)} are safe to read from any thread.
+ */
+public final class WinDetector {
+
+    private static final int[] NO_WINNERS = new int[0];
+
+    private final int[] indexStart;
+    private final int[] slots;
+    private final byte[] remaining;
+    private final boolean[] applied = new boolean[CalledNumbers.MAX_NUMBER + 1];
+    private final boolean[] candidate = new boolean[BingoDeck.DECK_SIZE];
+
+    private volatile int[] candidates = NO_WINNERS;
+
+    private WinDetector(int[] indexStart, int[] slots, byte[] remaining) {
+        this.indexStart = indexStart;
+        this.slots = slots;
+        this.remaining = remaining;
+    }
+
+    /**
+     * Build the index over the given card codes of a deck.
+     */
+    public static WinDetector build(BingoDeck deck, Iterable<Integer> cardCodes) {
+        int[][] lines = BingoDeck.linePositions();
+        byte[] remaining = new byte[BingoDeck.DECK_SIZE * BingoDeck.LINES_PER_CARD];
+        boolean[] included = new boolean[BingoDeck.DECK_SIZE];
+        int[] counts = new int[CalledNumbers.MAX_NUMBER + 2];
+
+        // First pass: count the slots per number so the index can be laid out contiguously
+        for (Integer cardCode : cardCodes) {
+            if (cardCode == null || !BingoDeck.isValidCardCode(cardCode) || included[cardCode - 1]) continue;
+            included[cardCode - 1] = true;
+            for (int line = 0; line < lines.length; line++) {
+                for (int position : lines[line]) {
+                    int n = deck.number(cardCode, position / BingoDeck.CARD_SIZE, position % BingoDeck.CARD_SIZE);
+                    if (n == 0) continue;
+                    counts[n + 1]++;
+                    remaining[(cardCode - 1) * BingoDeck.LINES_PER_CARD + line]++;
+                }
+            }
+        }
+
+        int[] indexStart = new int[CalledNumbers.MAX_NUMBER + 2];
+        for (int n = 1; n < indexStart.length; n++) {
+            indexStart[n] = indexStart[n - 1] + counts[n];
+        }
+
+        int[] slots = new int[indexStart[indexStart.length - 1]];
+        int[] next = Arrays.copyOf(indexStart, indexStart.length);
+        for (int card = 0; card < BingoDeck.DECK_SIZE; card++) {
+            if (!included[card]) continue;
+            for (int line = 0; line < lines.length; line++) {
+                for (int position : lines[line]) {
+                    int n = deck.number(card + 1, position / BingoDeck.CARD_SIZE, position % BingoDeck.CARD_SIZE);
+                    if (n == 0) continue;
+                    slots[next[n]++] = card * BingoDeck.LINES_PER_CARD + line;
+                }
+            }
+        }
+        return new WinDetector(indexStart, slots, remaining);
+    }
+
+    /**
+     * Apply a called number.
+     *
+     * @return card codes that completed a line with this number, empty if none
+     */
+    public int[] onNumberCalled(int number) {
+        if (number < 1 || number > CalledNumbers.MAX_NUMBER || applied[number]) {
+            return NO_WINNERS;
+        }
+        applied[number] = true;
+
+        int[] winners = NO_WINNERS;
+        for (int i = indexStart[number]; i < indexStart[number + 1]; i++) {
+            int slot = slots[i];
+            if (--remaining[slot] == 0) {
+                int card = slot / BingoDeck.LINES_PER_CARD;
+                if (!candidate[card]) {
+                    candidate[card] = true;
+                    winners = Arrays.copyOf(winners, winners.length + 1);
+                    winners[winners.length - 1] = card + 1;
+                }
+            }
+        }
+
+        if (winners.length > 0) {
+            int[] all = Arrays.copyOf(candidates, candidates.length + winners.length);
+            System.arraycopy(winners, 0, all, candidates.length, winners.length);
+            candidates = all;
+        }
+        return winners;
+    }
+
+    /**
+     * Card codes with at least one completed line, in the order they completed.
+     */
+    public int[] getCandidates() {
+        return candidates.clone();
+    }
+
+    public boolean hasCandidates() {
+        return candidates.length > 0;
+    }
+
+    public boolean isCandidate(int cardCode) {
+        for (int code : candidates) {
+            if (code == cardCode) return true;
+        }
+        return false;
+    }
+}
@@ -1,7 +1,5 @@
 package com.bingo.Bingo.entity;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,7 +7,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 
 @Getter
@@ -22,7 +19,7 @@ import java.time.LocalDateTime;
         name = "bingo_cards",
         uniqueConstraints = {
             @UniqueConstraint(
-                columnNames = {"card_number"}
+                columnNames = {"deck_version", "card_number"}
             )
         }
 )
@@ -41,11 +38,11 @@ public class BingoCard {
     @Id
     private Long id;
 
-    @Column(name = "card_number", nullable = false, unique = true)
-    private Integer cardNumber;
+    @Column(name = "deck_version")
+    private Long deckVersion;
 
-    @Transient
-    private Integer[][] numbers;
+    @Column(name = "card_number", nullable = false)
+    private Integer cardNumber;
 
     @Column(name = "numbers_json", nullable = false, columnDefinition = "TEXT")
     private String numbersJson;
@@ -56,29 +53,24 @@ public class BingoCard {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // numbersJson is written by whoever builds the row, with a shared ObjectMapper
     @PrePersist
-    private void onCreate() throws JsonProcessingException {
+    private void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        this.numbersJson = objectMapper.writeValueAsString(numbers);
     }
 
     @PreUpdate
-    private void onUpdate() throws JsonProcessingException {
+    private void onUpdate() {
         this.updatedAt = LocalDateTime.now();
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        this.numbersJson = objectMapper.writeValueAsString(numbers);
     }
 
     @Override
     public String toString() {
         return "BingoCard{" +
                 "id=" + id +
+                ", deckVersion=" + deckVersion +
                 ", cardNumber=" + cardNumber +
-                ", numbers=" + (numbers != null ? "[" + numbers.length + "x" + (numbers.length > 0 ? numbers[0].length : 0) + "]" : "null") +
                 ", numbersJson='" + numbersJson + '\'' +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table( name = "called_numbers",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"number_id"})
+                @UniqueConstraint(columnNames = {"number_id"}),
+                @UniqueConstraint(columnNames = {"game_session_id", "call_order"})
         }
 )
 public class CalledNumber {
@@ -35,6 +36,10 @@ public class CalledNumber {
     @Id
     private Long id;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_session_id", nullable = false)
+    private GameSession gameSession;
+
     @Column(name = "number", nullable = false)
     private Integer number;
 
@@ -44,7 +49,7 @@ public class CalledNumber {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "call_order", nullable = false, unique = true)
+    @Column(name = "call_order", nullable = false)
     private Integer callOrder;
 
     @Column(name = "updated_at")
@@ -0,0 +1,57 @@
+package com.bingo.Bingo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One generated deck, whose 400 cards are the {@code bingo_cards} rows carrying its id.
+ * Exactly one version is active; new games are played with it.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "deck_versions")
+public class DeckVersion {
+
+    @SequenceGenerator(
+            name = "deck_version_sequence",
+            sequenceName = "deck_version_sequence",
+            allocationSize = 1
+    )
+    @GeneratedValue(
+            strategy = GenerationType.SEQUENCE,
+            generator = "deck_version_sequence"
+    )
+    @Column(name = "id", nullable = false, unique = true)
+    @Id
+    private Long id;
+
+    @Column(name = "seed", nullable = false)
+    private Long seed;
+
+    @Column(name = "active", nullable = false)
+    private Boolean active;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "activated_at")
+    private LocalDateTime activatedAt;
+
+    @PrePersist
+    private void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.active == null) {
+            this.active = false;
+        }
+    }
+}
@@ -11,12 +11,11 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.HashSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
@@ -46,10 +45,13 @@ public class GameSession {
     @OneToMany(mappedBy = "gameSession", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<PlayerGameSession> playerSessions = new ArrayList<>();
     
-    @ElementCollection
-    @CollectionTable(name = "game_session_called_numbers", joinColumns = @JoinColumn(name = "game_session_id"))
-    @Column(name = "called_number")
-    private Set<Integer> calledNumbers = new HashSet<>();
+    // Numbers in call order; the persistent copy is the append-only called_numbers log
+    @Transient
+    private List<Integer> calledNumbers = new CopyOnWriteArrayList<>();
+    
+    // Deck the game is played with, so a deck rotation does not change cards mid-game
+    @Column(name = "deck_version")
+    private Long deckVersion;
     
     @Column(name = "current_call")
     private Integer currentCall;
@@ -70,7 +72,9 @@ public class GameSession {
         this.updatedAt = LocalDateTime.now();
         this.status = GameStatus.ONGOING;
         this.phase = "cardSelection";
-        this.countdown = 30;
+        if (this.countdown == null) {
+            this.countdown = 30;
+        }
         this.gameActive = false;
     }
     
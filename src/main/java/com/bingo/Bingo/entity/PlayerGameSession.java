@@ -33,9 +33,6 @@ public class PlayerGameSession {
     @Column(name = "selected_card_code", nullable = false)
     private Integer selectedCardCode;
     
-    @Column(name = "card_numbers_json", columnDefinition = "TEXT")
-    private String cardNumbersJson;
-    
     @Column(name = "is_winner")
     private Boolean isWinner;
     
@@ -64,7 +61,6 @@ public class PlayerGameSession {
                 ", userId=" + (user != null ? user.getId() : null) +
                 ", gameSessionId=" + (gameSession != null ? gameSession.getId() : null) +
                 ", selectedCardCode=" + selectedCardCode +
-                ", cardNumbersJson='" + cardNumbersJson + '\'' +
                 ", isWinner=" + isWinner +
                 ", joinedAt=" + joinedAt +
                 ", updatedAt=" + updatedAt +
@@ -25,6 +25,11 @@ import java.util.List;
 )
 public class User {
 
+    // Balances every new user starts with; also used by the insert-if-absent registration SQL
+    public static final double STARTING_BALANCE = 10.0;
+    public static final double STARTING_WITHDRAWABLE_BALANCE = 0.0;
+    public static final double STARTING_NON_WITHDRAWABLE_BALANCE = 0.0;
+
     @SequenceGenerator(
             name = "user_sequence",
             sequenceName = "user_sequence",
@@ -54,13 +59,13 @@ public class User {
 
     @Column(name = "balance", nullable = false)
     @Builder.Default
-    private Double totalBalance = 10.0;
+    private Double totalBalance = STARTING_BALANCE;
 
     @Column(name = "withdrawable_balance")
-    private Double withdrawableBalance = 0.0;
+    private Double withdrawableBalance = STARTING_WITHDRAWABLE_BALANCE;
 
     @Column(name = "nonWithdrawableBalance")
-    private Double nonWithdrawableBalance = 0.0;
+    private Double nonWithdrawableBalance = STARTING_NON_WITHDRAWABLE_BALANCE;
 
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -73,9 +78,9 @@ public class User {
 
     @PrePersist
     private void onCreate() {
-        this.totalBalance = 10.0;
-        this.withdrawableBalance = 0.0;
-        this.nonWithdrawableBalance = 0.0;
+        this.totalBalance = STARTING_BALANCE;
+        this.withdrawableBalance = STARTING_WITHDRAWABLE_BALANCE;
+        this.nonWithdrawableBalance = STARTING_NON_WITHDRAWABLE_BALANCE;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
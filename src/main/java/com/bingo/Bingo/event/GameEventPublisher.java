@@ -0,0 +1,105 @@
+package com.bingo.Bingo.event;
+
+import com.bingo.Bingo.common.enums.GameEventType;
+import com.bingo.Bingo.dto.response.GameEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single fan-out point for session events: pushes them to STOMP subscribers of
+ * /topic/session/{sessionCode} and republishes them in-process for other listeners.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameEventPublisher {
+
+    public static final String SESSION_TOPIC_PREFIX = "/topic/session/";
+    public static final String SESSIONS_TOPIC = "/topic/sessions";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publish(GameEvent event) {
+        if (event.getTimestamp() == null) {
+            event.setTimestamp(System.currentTimeMillis());
+        }
+        try {
+            String destination = event.getType() == GameEventType.SESSION_CREATED ?
+                    SESSIONS_TOPIC : SESSION_TOPIC_PREFIX + event.getSessionCode();
+            messagingTemplate.convertAndSend(destination, event);
+        } catch (Exception e) {
+            log.error("Error pushing {} event for session {}: {}", event.getType(), event.getSessionCode(), e.getMessage(), e);
+        }
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (Exception e) {
+            log.error("Error dispatching {} event for session {}: {}", event.getType(), event.getSessionCode(), e.getMessage(), e);
+        }
+    }
+
+    public void countdown(String sessionCode, int countdown) {
+        publish(GameEvent.builder()
+                .type(GameEventType.COUNTDOWN)
+                .sessionCode(sessionCode)
+                .countdown(countdown)
+                .build());
+    }
+
+    public void phaseChanged(String sessionCode, String phase) {
+        publish(GameEvent.builder()
+                .type(GameEventType.PHASE_CHANGED)
+                .sessionCode(sessionCode)
+                .phase(phase)
+                .build());
+    }
+
+    public void sessionCreated(String sessionCode, String phase, Integer countdown) {
+        publish(GameEvent.builder()
+                .type(GameEventType.SESSION_CREATED)
+                .sessionCode(sessionCode)
+                .phase(phase)
+                .countdown(countdown)
+                .build());
+    }
+
+    public void cardTaken(String sessionCode, int cardCode, int playerCount) {
+        publish(GameEvent.builder()
+                .type(GameEventType.CARD_TAKEN)
+                .sessionCode(sessionCode)
+                .cardCode(cardCode)
+                .playerCount(playerCount)
+                .build());
+    }
+
+    public void cardReleased(String sessionCode, int cardCode, int playerCount) {
+        publish(GameEvent.builder()
+                .type(GameEventType.CARD_RELEASED)
+                .sessionCode(sessionCode)
+                .cardCode(cardCode)
+                .playerCount(playerCount)
+                .build());
+    }
+
+    public void numberCalled(String sessionCode, int number, String letter, int callOrder) {
+        publish(GameEvent.builder()
+                .type(GameEventType.NUMBER_CALLED)
+                .sessionCode(sessionCode)
+                .number(number)
+                .letter(letter)
+                .callOrder(callOrder)
+                .build());
+    }
+
+    public void winner(String sessionCode, String winner, Integer winningCardCode) {
+        publish(GameEvent.builder()
+                .type(GameEventType.WINNER)
+                .sessionCode(sessionCode)
+                .winner(winner)
+                .winningCardCode(winningCardCode)
+                .build());
+    }
+}
@@ -0,0 +1,7 @@
+package com.bingo.Bingo.exception;
+
+public class CardTakenException extends RuntimeException {
+    public CardTakenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.bingo.Bingo.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gate for diagnostic dumps whose size grows with the session, such as a listing of every player.
+ * <p>
+ * Each category logs at DEBUG to its own logger, {@code bingo.diagnostics.<category>}, so dumps are
+ * off until someone asks for them, e.g. {@code POST /actuator/loggers/bingo.diagnostics.players}
+ * with {@code {"configuredLevel":"DEBUG"}}. While a category is on, it is sampled: at most one dump
+ * per interval ({@code bingo.logging.diagnostics.<category>.interval-ms}, falling back to
+ * {@code bingo.logging.diagnostics.interval-ms}), however often the code path runs.
+ */
+@Component
+public class DiagnosticLog {
+
+    public static final String PLAYERS = "players";
+    public static final String SNAPSHOTS = "snapshots";
+
+    private final Environment environment;
+    private final long defaultIntervalMs;
+    private final Map<String, Category> categories = new ConcurrentHashMap<>();
+
+    public DiagnosticLog(Environment environment,
+                         @Value("${bingo.logging.diagnostics.interval-ms:10000}") long defaultIntervalMs) {
+        this.environment = environment;
+        this.defaultIntervalMs = defaultIntervalMs;
+    }
+
+    public Logger logger(String category) {
+        return category(category).logger();
+    }
+
+    /**
+     * Whether a dump for this category should be written now. A true answer uses up the
+     * current interval, so callers must only ask when they are about to dump.
+     */
+    public boolean sample(String category) {
+        Category target = category(category);
+        if (!target.logger().isDebugEnabled()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        long next = target.nextDump().get();
+        return now - next >= 0 && target.nextDump().compareAndSet(next, now + target.intervalNanos());
+    }
+
+    private Category category(String name) {
+        return categories.computeIfAbsent(name, key -> new Category(
+                LoggerFactory.getLogger("bingo.diagnostics." + key),
+                TimeUnit.MILLISECONDS.toNanos(environment.getProperty(
+                        "bingo.logging.diagnostics." + key + ".interval-ms", Long.class, defaultIntervalMs)),
+                new AtomicLong(System.nanoTime())));
+    }
+
+    private record Category(Logger logger, long intervalNanos, AtomicLong nextDump) { }
+}
@@ -1,6 +1,7 @@
 package com.bingo.Bingo.mapper;
 
 import com.bingo.Bingo.dto.request.UserDto;
+import com.bingo.Bingo.dto.response.UserView;
 import com.bingo.Bingo.entity.User;
 
 public class UserMapper {
@@ -15,6 +16,43 @@ public class UserMapper {
                 .build();
     }
 
+    public static UserView toView(User user) {
+        return UserView.builder()
+                .id(user.getId())
+                .telegramId(user.getTelegramId())
+                .phoneNumber(user.getPhoneNumber())
+                .userName(user.getUserName())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .totalBalance(user.getTotalBalance())
+                .build();
+    }
+
+    public static UserDto toDto(UserView user) {
+        return UserDto.builder()
+                .telegramId(user.getTelegramId())
+                .phoneNumber(user.getPhoneNumber())
+                .userName(user.getUserName())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .build();
+    }
+
+    /**
+     * A detached user carrying the cached fields, for use as an association (only its ID is written).
+     */
+    public static User toReference(UserView user) {
+        return User.builder()
+                .id(user.getId())
+                .telegramId(user.getTelegramId())
+                .phoneNumber(user.getPhoneNumber())
+                .userName(user.getUserName())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .totalBalance(user.getTotalBalance())
+                .build();
+    }
+
     public static User toEntity(UserDto userDto) {
         return User.builder()
                 .telegramId(userDto.getTelegramId())
@@ -0,0 +1,151 @@
+package com.bingo.Bingo.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Meters for the session lifecycle and the game's hot paths, all named {@code bingo.*}.
+ * They are exposed through the actuator, in Prometheus format at {@code /actuator/prometheus}.
+ */
+@Component
+public class GameMetrics {
+
+    public static final String JOINED = "success";
+    public static final String CARD_TAKEN = "card_taken";
+    public static final String LATE_JOIN = "late_join";
+    public static final String JOIN_FAILED = "error";
+
+    private final MeterRegistry registry;
+    private final Timer countdownTickLag;
+    private final Timer callJitter;
+    private final Timer bingoVerification;
+    private final Timer snapshotBuild;
+    private final Counter validBingos;
+    private final Counter falseBingos;
+    private final DistributionSummary playersPerGame;
+    private final Counter telegramSent;
+    private final Counter telegramFailed;
+    private final Counter telegramRateLimited;
+    private final Timer telegramQueueWait;
+    private final Timer telegramBroadcast;
+
+    public GameMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.countdownTickLag = Timer.builder("bingo.countdown.tick.lag")
+                .description("Delay between a countdown tick firing and running on the session loop")
+                .register(registry);
+        this.callJitter = Timer.builder("bingo.call.jitter")
+                .description("Deviation of the time between two called numbers from the call interval")
+                .register(registry);
+        this.bingoVerification = Timer.builder("bingo.bingo.verification")
+                .description("Time to verify a BINGO claim against the called numbers")
+                .register(registry);
+        this.snapshotBuild = Timer.builder("bingo.snapshot.build")
+                .description("Time to build and serialize a session snapshot")
+                .register(registry);
+        this.validBingos = Counter.builder("bingo.bingo.claims")
+                .tag("result", "valid")
+                .description("BINGO claims by verification result")
+                .register(registry);
+        this.falseBingos = Counter.builder("bingo.bingo.claims")
+                .tag("result", "false")
+                .description("BINGO claims by verification result")
+                .register(registry);
+        this.playersPerGame = DistributionSummary.builder("bingo.game.players")
+                .description("Players holding a card when the game room opens")
+                .register(registry);
+        this.telegramSent = Counter.builder("bingo.telegram.messages")
+                .tag("result", "sent")
+                .description("Broadcast messages by delivery result")
+                .register(registry);
+        this.telegramFailed = Counter.builder("bingo.telegram.messages")
+                .tag("result", "failed")
+                .description("Broadcast messages by delivery result")
+                .register(registry);
+        this.telegramRateLimited = Counter.builder("bingo.telegram.rate.limited")
+                .description("Broadcast sends rejected with 429 and retried after the requested delay")
+                .register(registry);
+        this.telegramQueueWait = Timer.builder("bingo.telegram.queue.wait")
+                .description("Time a broadcast message waits for pacing before its first send attempt")
+                .register(registry);
+        this.telegramBroadcast = Timer.builder("bingo.telegram.broadcast")
+                .description("Time to deliver a broadcast to all of its recipients")
+                .register(registry);
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Record a join request, from the moment it was received, under one of the join outcomes.
+     */
+    public void joinFinished(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("bingo.join")
+                .tag("outcome", outcome)
+                .description("Join requests, including time queued on the session loop")
+                .register(registry));
+    }
+
+    public void countdownTick(long lagNanos) {
+        countdownTickLag.record(lagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void numberCalled(long sincePreviousNanos, long intervalNanos) {
+        callJitter.record(Math.abs(sincePreviousNanos - intervalNanos), TimeUnit.NANOSECONDS);
+    }
+
+    public void bingoVerified(long elapsedNanos, boolean valid) {
+        bingoVerification.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        (valid ? validBingos : falseBingos).increment();
+    }
+
+    public void snapshotBuilt(long elapsedNanos) {
+        snapshotBuild.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void gameStarted(int players) {
+        playersPerGame.record(players);
+    }
+
+    public void telegramSent(boolean delivered) {
+        (delivered ? telegramSent : telegramFailed).increment();
+    }
+
+    public void telegramRateLimited() {
+        telegramRateLimited.increment();
+    }
+
+    public void telegramQueued(long waitNanos) {
+        telegramQueueWait.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void broadcastFinished(long elapsedNanos) {
+        telegramBroadcast.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Count rows written to the database, by entity and by the phase of the session they belong to.
+     */
+    public void saved(String entity, String phase, int rows) {
+        Counter.builder("bingo.db.saves")
+                .tag("entity", entity)
+                .tag("phase", phase != null ? phase : "none")
+                .description("Rows saved to the database")
+                .register(registry)
+                .increment(rows);
+    }
+
+    public <T> void gauge(String name, String description, T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value)
+                .description(description)
+                .register(registry);
+    }
+}
@@ -0,0 +1,121 @@
+package com.bingo.Bingo.persistence;
+
+import com.bingo.Bingo.entity.GameSession;
+import com.bingo.Bingo.metrics.GameMetrics;
+import com.bingo.Bingo.repository.GameSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind queue for game session state that does not need to hit the database immediately.
+ * Sessions queued between two flushes are coalesced, so each one is written at most once per interval,
+ * and all pending sessions are saved together in a single batch. Writes that must not wait or be
+ * overwritten, such as a game ending, go through {@link #saveNow(GameSession)} instead.
+ */
+@Component
+@Slf4j
+public class SessionWriteBehind implements DisposableBean {
+
+    private final GameSessionRepository gameSessionRepository;
+    private final GameMetrics gameMetrics;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "session-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Keyed by session code so repeated updates to the same session collapse into one write
+    private final Map<String, GameSession> pending = new LinkedHashMap<>();
+    // Held while writing, so an immediate save never interleaves with a flush of an older copy
+    private final Object writeLock = new Object();
+
+    public SessionWriteBehind(GameSessionRepository gameSessionRepository,
+                              GameMetrics gameMetrics,
+                              @Value("${bingo.persistence.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.gameSessionRepository = gameSessionRepository;
+        this.gameMetrics = gameMetrics;
+        gameMetrics.gauge("bingo.persistence.pending", "Game sessions waiting for the next write-behind flush",
+                pending, sessions -> {
+                    synchronized (sessions) {
+                        return sessions.size();
+                    }
+                });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Session write-behind flushing every {} ms", flushIntervalMs);
+    }
+
+    public void enqueue(GameSession gameSession) {
+        if (gameSession == null || gameSession.getSessionCode() == null) {
+            return;
+        }
+        synchronized (pending) {
+            pending.put(gameSession.getSessionCode(), gameSession);
+        }
+    }
+
+    /**
+     * Save a session straight away, dropping any queued copy of it so an older state can never
+     * be flushed over this one later.
+     */
+    public GameSession saveNow(GameSession gameSession) {
+        synchronized (writeLock) {
+            synchronized (pending) {
+                pending.remove(gameSession.getSessionCode());
+            }
+            GameSession saved = gameSessionRepository.save(gameSession);
+            gameMetrics.saved("game_session", gameSession.getPhase(), 1);
+            return saved;
+        }
+    }
+
+    /**
+     * Save every queued session in one batch.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            flushPending();
+        }
+    }
+
+    private void flushPending() {
+        List<GameSession> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        try {
+            gameSessionRepository.saveAll(batch);
+            for (GameSession session : batch) {
+                gameMetrics.saved("game_session", session.getPhase(), 1);
+            }
+            log.debug("Flushed {} game sessions", batch.size());
+        } catch (Exception e) {
+            log.error("Error flushing {} game sessions: {}", batch.size(), e.getMessage(), e);
+            // Put them back unless a newer version was queued meanwhile
+            synchronized (pending) {
+                for (GameSession session : batch) {
+                    pending.putIfAbsent(session.getSessionCode(), session);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+        flush();
+    }
+}
@@ -0,0 +1,24 @@
+package com.bingo.Bingo.repository;
+
+import java.util.List;
+
+/**
+ * Bulk writes of a whole deck, which would otherwise cost one insert and one sequence call per card.
+ */
+public interface BingoCardBatchRepository {
+
+    /**
+     * Insert the cards of a deck version in JDBC batches; element i holds the numbers of card code i + 1.
+     *
+     * @return how many cards were inserted
+     */
+    int insertDeck(long deckVersion, List<String> numbersJson);
+
+    /**
+     * Drop the unique constraint on {@code card_number} alone, left by databases created before
+     * decks were versioned; it would stop a second version from being stored.
+     *
+     * @return how many constraints were dropped
+     */
+    int dropUnversionedCardNumberConstraint();
+}
@@ -0,0 +1,55 @@
+package com.bingo.Bingo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+class BingoCardBatchRepositoryImpl implements BingoCardBatchRepository {
+
+    // The id comes from the sequence inside the insert, so no round trip per card is needed to fetch it
+    private static final String INSERT_CARD = """
+            insert into bingo_cards (id, deck_version, card_number, numbers_json, created_at, updated_at)
+            values (nextval('bingo_card_sequence'), ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${bingo.deck.insert-batch-size:100}")
+    private int batchSize;
+
+    @Override
+    public int insertDeck(long deckVersion, List<String> numbersJson) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> cardNumbers = new ArrayList<>(numbersJson.size());
+        for (int cardNumber = 1; cardNumber <= numbersJson.size(); cardNumber++) {
+            cardNumbers.add(cardNumber);
+        }
+        int inserted = 0;
+        for (int[] batch : jdbcTemplate.batchUpdate(INSERT_CARD, cardNumbers, batchSize, (ps, cardNumber) -> {
+            ps.setLong(1, deckVersion);
+            ps.setInt(2, cardNumber);
+            ps.setString(3, numbersJson.get(cardNumber - 1));
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        })) {
+            for (int rows : batch) {
+                if (rows > 0 || rows == Statement.SUCCESS_NO_INFO) {
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public int dropUnversionedCardNumberConstraint() {
+        return SingleColumnUniqueConstraints.drop(jdbcTemplate, "bingo_cards", "card_number");
+    }
+}
@@ -2,9 +2,26 @@ package com.bingo.Bingo.repository;
 
 import com.bingo.Bingo.entity.BingoCard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
-public interface BingoCardRepository extends JpaRepository<BingoCard, Long> {
+public interface BingoCardRepository extends JpaRepository<BingoCard, Long>, BingoCardBatchRepository {
+
+    List<BingoCard> findByDeckVersionOrderByCardNumberAsc(Long deckVersion);
+
+    long countByDeckVersionIsNull();
 
+    /**
+     * Attach cards stored before decks were versioned to the given version.
+     */
+    @Modifying
+    @Transactional
+    @Query("update BingoCard c set c.deckVersion = :version where c.deckVersion is null")
+    int adoptUnversioned(@Param("version") long version);
 }
@@ -4,7 +4,10 @@ import com.bingo.Bingo.entity.CalledNumber;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface CalledNumberRepository extends JpaRepository<CalledNumber, Long> {
+public interface CalledNumberRepository extends JpaRepository<CalledNumber, Long>, CalledNumberSchemaRepository {
+    List<CalledNumber> findByGameSessionIdOrderByCallOrderAsc(Long gameSessionId);
 
 }
@@ -0,0 +1,12 @@
+package com.bingo.Bingo.repository;
+
+public interface CalledNumberSchemaRepository {
+
+    /**
+     * Drop the unique constraint on {@code call_order} alone, left by databases created before call
+     * orders were numbered per game; it fails every call after the first game.
+     *
+     * @return how many constraints were dropped
+     */
+    int dropGlobalCallOrderConstraint();
+}
@@ -0,0 +1,15 @@
+package com.bingo.Bingo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+class CalledNumberSchemaRepositoryImpl implements CalledNumberSchemaRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int dropGlobalCallOrderConstraint() {
+        return SingleColumnUniqueConstraints.drop(jdbcTemplate, "called_numbers", "call_order");
+    }
+}
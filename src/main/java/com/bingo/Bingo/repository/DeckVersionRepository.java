@@ -0,0 +1,31 @@
+package com.bingo.Bingo.repository;
+
+import com.bingo.Bingo.entity.DeckVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface DeckVersionRepository extends JpaRepository<DeckVersion, Long> {
+
+    Optional<DeckVersion> findFirstByActiveTrueOrderByIdDesc();
+
+    /**
+     * Make the given version the only active one, in a single statement so there is never
+     * a moment without an active deck.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            update DeckVersion v
+            set v.active = case when v.id = :id then true else false end,
+                v.activatedAt = case when v.id = :id then :now else v.activatedAt end
+            """)
+    int activate(@Param("id") long id, @Param("now") LocalDateTime now);
+}
@@ -1,5 +1,6 @@
 package com.bingo.Bingo.repository;
 
+import com.bingo.Bingo.common.enums.GameStatus;
 import com.bingo.Bingo.entity.GameSession;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +12,8 @@ import java.util.Optional;
 @Repository
 public interface GameSessionRepository extends JpaRepository<GameSession, Long> {
     Optional<GameSession> findBySessionCode(String sessionCode);
+
+    Optional<GameSession> findFirstByStatusAndPhaseNotOrderByIdDesc(GameStatus status, String phase);
     
     @Query("SELECT gs FROM GameSession gs LEFT JOIN FETCH gs.playerSessions ps LEFT JOIN FETCH ps.user WHERE gs.sessionCode = :sessionCode")
     Optional<GameSession> findBySessionCodeWithPlayers(@Param("sessionCode") String sessionCode);
@@ -0,0 +1,37 @@
+package com.bingo.Bingo.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Drops unique constraints covering one column alone. ddl-auto=update adds constraints but never
+ * removes them, so a column that used to be unique on its own keeps that constraint in existing
+ * databases after the entity moved to a composite one.
+ */
+final class SingleColumnUniqueConstraints {
+
+    private static final String FIND = """
+            select tc.constraint_name
+            from information_schema.table_constraints tc
+            join information_schema.constraint_column_usage ccu
+              on ccu.constraint_schema = tc.constraint_schema and ccu.constraint_name = tc.constraint_name
+            where tc.table_schema = current_schema and tc.table_name = ? and tc.constraint_type = 'UNIQUE'
+            group by tc.constraint_name
+            having count(*) = 1 and max(ccu.column_name) = ?
+            """;
+
+    private SingleColumnUniqueConstraints() {
+    }
+
+    /**
+     * @return how many constraints were dropped
+     */
+    static int drop(JdbcTemplate jdbcTemplate, String table, String column) {
+        List<String> names = jdbcTemplate.queryForList(FIND, String.class, table, column);
+        for (String name : names) {
+            jdbcTemplate.execute("alter table " + table + " drop constraint \"" + name.replace("\"", "\"\"") + "\"");
+        }
+        return names.size();
+    }
+}
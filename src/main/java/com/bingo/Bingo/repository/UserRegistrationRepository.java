@@ -0,0 +1,27 @@
+package com.bingo.Bingo.repository;
+
+import com.bingo.Bingo.entity.User;
+
+import java.util.List;
+
+/**
+ * Insert-if-absent registration, so signing up takes one statement instead of a lookup followed by an insert.
+ */
+public interface UserRegistrationRepository {
+
+    /**
+     * Insert the user unless one with the same Telegram ID already exists.
+     *
+     * @return false if the user was already registered
+     * @throws org.springframework.dao.DuplicateKeyException if the phone number belongs to another user
+     */
+    boolean insertIfAbsent(User user);
+
+    /**
+     * Insert every user that is not registered yet, sending the inserts to the database in JDBC batches.
+     * A phone number that belongs to another user fails the batch with a duplicate key error.
+     *
+     * @return how many users were actually inserted
+     */
+    int insertAllIfAbsent(List<User> users);
+}
@@ -0,0 +1,74 @@
+package com.bingo.Bingo.repository;
+
+import com.bingo.Bingo.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+class UserRegistrationRepositoryImpl implements UserRegistrationRepository {
+
+    private static final String INSERT = """
+            insert into users (id, telegram_id, phone_number, user_name, first_name, last_name,
+                               balance, withdrawable_balance, non_withdrawable_balance, created_at, updated_at)
+            values (nextval('user_sequence'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${bingo.users.registration-batch-size:200}")
+    private int batchSize;
+
+    // Only an existing Telegram ID turns the insert into a zero row count; a phone number
+    // registered to another account still fails with a duplicate key error
+    @Value("${bingo.users.registration-conflict:on conflict (telegram_id) do nothing}")
+    private String onConflict;
+
+    @Override
+    public boolean insertIfAbsent(User user) {
+        return jdbcTemplate.update(insertIfAbsent(), ps -> bind(ps, user)) > 0;
+    }
+
+    @Override
+    public int insertAllIfAbsent(List<User> users) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        ParameterizedPreparedStatementSetter<User> setter = UserRegistrationRepositoryImpl::bind;
+        int inserted = 0;
+        for (int[] batch : jdbcTemplate.batchUpdate(insertIfAbsent(), users, batchSize, setter)) {
+            for (int rows : batch) {
+                if (rows > 0 || rows == Statement.SUCCESS_NO_INFO) {
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private String insertIfAbsent() {
+        return INSERT + onConflict;
+    }
+
+    private static void bind(PreparedStatement ps, User user) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        ps.setLong(1, user.getTelegramId());
+        ps.setString(2, user.getPhoneNumber());
+        ps.setString(3, user.getUserName());
+        ps.setString(4, user.getFirstName());
+        ps.setString(5, user.getLastName());
+        ps.setDouble(6, User.STARTING_BALANCE);
+        ps.setDouble(7, User.STARTING_WITHDRAWABLE_BALANCE);
+        ps.setDouble(8, User.STARTING_NON_WITHDRAWABLE_BALANCE);
+        ps.setTimestamp(9, now);
+        ps.setTimestamp(10, now);
+    }
+}
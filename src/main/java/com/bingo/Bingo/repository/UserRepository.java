@@ -1,13 +1,59 @@
 package com.bingo.Bingo.repository;
 
 import com.bingo.Bingo.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRegistrationRepository {
     Optional<User> findByTelegramId(Long telegramId);
+
+    @Query("select u.telegramId from User u where u.telegramId > :after order by u.telegramId")
+    List<Long> findTelegramIdsAfter(@Param("after") long after, Limit limit);
+
+    /**
+     * All Telegram IDs in ascending order, fetched lazily one keyset page at a time.
+     * Each page is its own short query, so no connection or transaction is held while
+     * the stream is consumed and memory use does not grow with the number of users.
+     * Nothing is queried until the stream is consumed, so it can be built on one thread
+     * and read on another.
+     */
+    default Stream<Long> streamTelegramIds(int pageSize) {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<Long>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL) {
+            private List<Long> page = List.of();
+            private int next;
+            private boolean lastPage;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Long> action) {
+                if (next == page.size()) {
+                    if (lastPage) {
+                        return false;
+                    }
+                    long after = page.isEmpty() ? Long.MIN_VALUE : page.get(page.size() - 1);
+                    page = findTelegramIdsAfter(after, Limit.of(pageSize));
+                    next = 0;
+                    lastPage = page.size() < pageSize;
+                    if (page.isEmpty()) {
+                        return false;
+                    }
+                }
+                action.accept(page.get(next++));
+                return true;
+            }
+        }, false);
+    }
 }
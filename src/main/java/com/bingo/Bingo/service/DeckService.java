@@ -0,0 +1,44 @@
+package com.bingo.Bingo.service;
+
+import com.bingo.Bingo.dto.response.BingoCardsResponse;
+import com.bingo.Bingo.dto.response.DeckVersionResponse;
+import com.bingo.Bingo.engine.BingoDeck;
+
+import java.util.List;
+
+public interface DeckService {
+
+    /**
+     * The active deck, which new games are played with.
+     */
+    BingoDeck getDeck();
+
+    /**
+     * A specific deck version, such as the one a running game started with.
+     */
+    BingoDeck getDeck(long version);
+
+    long getVersion();
+
+    List<BingoCardsResponse> getCards();
+
+    List<BingoCardsResponse> getCards(long version);
+
+    BingoCardsResponse getCard(long version, int cardCode);
+
+    DeckVersionResponse getActiveVersion();
+
+    /**
+     * Generate and store a new deck and make it the active one. Games already running keep their deck.
+     *
+     * @param seed seed for the new deck, or null for a random one
+     */
+    DeckVersionResponse rotate(Long seed);
+
+    /**
+     * Pick up a rotation made on another node.
+     *
+     * @return the active version
+     */
+    long refresh();
+}
@@ -4,21 +4,36 @@ import com.bingo.Bingo.dto.request.JoinGameRequest;
 import com.bingo.Bingo.dto.request.BingoCallRequest;
 import com.bingo.Bingo.dto.response.GameSessionResponse;
 import com.bingo.Bingo.dto.response.BingoCardsResponse;
+import com.bingo.Bingo.dto.response.AvailableCardsResponse;
+import com.bingo.Bingo.dto.response.SessionSnapshot;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface GameSessionService {
     
     List<BingoCardsResponse> generateBingoCard();
     
+    BingoCardsResponse getCard(int cardCode);
+    
     GameSessionResponse joinGame(JoinGameRequest request);
     
     GameSessionResponse getGameSession(String sessionCode);
     
     GameSessionResponse getGameSessionWithUser(String sessionCode, Long telegramId);
     
+    AvailableCardsResponse getAvailableCards(String sessionCode, int offset, int limit);
+    
+    AvailableCardsResponse getRandomAvailableCard(String sessionCode);
+    
     GameSessionResponse getActiveGameSession();
     
+    SessionSnapshot getSnapshot(String sessionCode);
+    
+    SessionSnapshot getActiveSnapshot();
+    
+    CompletableFuture<SessionSnapshot> awaitChange(String sessionCode, long sinceVersion);
+    
     GameSessionResponse getNextGameInfo();
     
     GameSessionResponse callBingo(BingoCallRequest request);
@@ -0,0 +1,270 @@
+package com.bingo.Bingo.service.Impl;
+
+import com.bingo.Bingo.dto.response.BingoCardsResponse;
+import com.bingo.Bingo.dto.response.DeckVersionResponse;
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.entity.BingoCard;
+import com.bingo.Bingo.entity.DeckVersion;
+import com.bingo.Bingo.exception.ResourceNotFound;
+import com.bingo.Bingo.repository.BingoCardRepository;
+import com.bingo.Bingo.repository.DeckVersionRepository;
+import com.bingo.Bingo.service.DeckService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves decks stored in {@code bingo_cards}, one set of 400 rows per {@link DeckVersion}.
+ * The first start against an empty database stores a deck generated from {@code bingo.deck.seed};
+ * every later start only loads the active version, so cards are never regenerated behind the
+ * players' backs. A rotation stores a new version and activates it without a restart: new games
+ * use it, while games already running keep the deck they started with.
+ */
+@Service
+@Slf4j
+public class DeckServiceImpl implements DeckService, InitializingBean {
+
+    // Rough heap size of one prebuilt card response with compressed oops: the response (24 bytes) and its
+    // six immutable lists with their arrays (64 bytes each); the numbers themselves are cached Integers
+    private static final int CARD_RESPONSE_BYTES = 24 + 6 * 64;
+
+    private final BingoCardRepository bingoCardRepository;
+    private final DeckVersionRepository deckVersionRepository;
+    private final ObjectMapper objectMapper;
+    private final long deckSeed;
+
+    // The active deck and the one before it, which running games may still be using; older ones are reloaded on demand
+    private final Map<Long, LoadedDeck> decks = new ConcurrentHashMap<>();
+    private volatile DeckVersion activeVersion;
+    private volatile LoadedDeck active;
+
+    public DeckServiceImpl(BingoCardRepository bingoCardRepository,
+                           DeckVersionRepository deckVersionRepository,
+                           ObjectMapper objectMapper,
+                           @Value("${bingo.deck.seed:400}") long deckSeed) {
+        this.bingoCardRepository = bingoCardRepository;
+        this.deckVersionRepository = deckVersionRepository;
+        this.objectMapper = objectMapper;
+        this.deckSeed = deckSeed;
+    }
+
+    // Load the active deck once when the server starts; every request is then served from memory
+    @Override
+    public void afterPropertiesSet() {
+        long start = System.nanoTime();
+        try {
+            int dropped = bingoCardRepository.dropUnversionedCardNumberConstraint();
+            if (dropped > 0) {
+                log.info("Dropped the unique constraint on bingo_cards.card_number; cards are now unique per deck version");
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not check bingo_cards for the old card_number constraint: {}", e.getMessage());
+        }
+
+        DeckVersion version = deckVersionRepository.findFirstByActiveTrueOrderByIdDesc()
+                .orElseGet(this::storeFirstVersion);
+        LoadedDeck loaded = loadedDeck(version.getId());
+        activate(version, loaded);
+        log.info("Loaded BINGO deck version {} ({} cards) in {} ms: {} bytes of cells and line masks, about {} bytes of card responses",
+                version.getId(), BingoDeck.DECK_SIZE, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                loaded.deck().sizeInBytes(), loaded.cards().size() * CARD_RESPONSE_BYTES);
+    }
+
+    /**
+     * The database holds no deck version yet: version the cards stored before decks had versions,
+     * or store a deck generated from the configured seed if there are none.
+     */
+    private DeckVersion storeFirstVersion() {
+        DeckVersion version = deckVersionRepository.save(DeckVersion.builder().seed(deckSeed).active(false).build());
+        int adopted = bingoCardRepository.adoptUnversioned(version.getId());
+        if (adopted > 0) {
+            log.info("Attached {} stored cards to BINGO deck version {}", adopted, version.getId());
+        } else {
+            store(version.getId(), BingoDeck.generate(deckSeed));
+            log.info("Stored a new BINGO deck generated from seed {} as version {}", deckSeed, version.getId());
+        }
+        deckVersionRepository.activate(version.getId(), LocalDateTime.now());
+        // Another node starting at the same time may have activated its own version since; go with whichever is active
+        return deckVersionRepository.findFirstByActiveTrueOrderByIdDesc()
+                .orElseThrow(() -> new IllegalStateException("No active BINGO deck version after storing one"));
+    }
+
+    @Override
+    public synchronized DeckVersionResponse rotate(Long seed) {
+        long start = System.nanoTime();
+        long newSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        BingoDeck generated = BingoDeck.generate(newSeed);
+
+        DeckVersion version = deckVersionRepository.save(DeckVersion.builder().seed(newSeed).active(false).build());
+        store(version.getId(), generated);
+        LocalDateTime now = LocalDateTime.now();
+        deckVersionRepository.activate(version.getId(), now);
+        version.setActive(true);
+        version.setActivatedAt(now);
+
+        LoadedDeck loaded = new LoadedDeck(version.getId(), generated, cardsOf(generated));
+        decks.put(version.getId(), loaded);
+        activate(version, loaded);
+        log.info("Rotated BINGO deck to version {} (seed {}) in {} ms", version.getId(), newSeed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return toResponse(version);
+    }
+
+    @Override
+    public long refresh() {
+        DeckVersion latest = deckVersionRepository.findFirstByActiveTrueOrderByIdDesc().orElse(null);
+        if (latest != null && latest.getId() != active.version()) {
+            synchronized (this) {
+                if (latest.getId() != active.version()) {
+                    activate(latest, loadedDeck(latest.getId()));
+                    log.info("Switched to BINGO deck version {} activated on another node", latest.getId());
+                }
+            }
+        }
+        return active.version();
+    }
+
+    private synchronized void activate(DeckVersion version, LoadedDeck loaded) {
+        LoadedDeck previous = active;
+        decks.keySet().removeIf(id -> id != loaded.version() && (previous == null || id != previous.version()));
+        decks.put(loaded.version(), loaded);
+        this.activeVersion = version;
+        this.active = loaded;
+    }
+
+    private void store(long version, BingoDeck deck) {
+        List<String> numbersJson = new ArrayList<>(BingoDeck.DECK_SIZE);
+        try {
+            for (int cardCode = 1; cardCode <= BingoDeck.DECK_SIZE; cardCode++) {
+                numbersJson.add(objectMapper.writeValueAsString(deck.cardNumbers(cardCode)));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize BINGO deck version " + version, e);
+        }
+        int inserted = bingoCardRepository.insertDeck(version, numbersJson);
+        if (inserted != BingoDeck.DECK_SIZE) {
+            throw new IllegalStateException("Stored " + inserted + " cards of deck version " + version + ", expected " + BingoDeck.DECK_SIZE);
+        }
+    }
+
+    private LoadedDeck loadedDeck(long version) {
+        return decks.computeIfAbsent(version, id -> {
+            BingoDeck deck = loadDeck(id, bingoCardRepository.findByDeckVersionOrderByCardNumberAsc(id));
+            return new LoadedDeck(id, deck, cardsOf(deck));
+        });
+    }
+
+    private BingoDeck loadDeck(long version, List<BingoCard> rows) {
+        if (rows.size() != BingoDeck.DECK_SIZE) {
+            throw new IllegalStateException("Deck version " + version + " holds " + rows.size() + " cards, expected " + BingoDeck.DECK_SIZE);
+        }
+        byte[] cells = new byte[BingoDeck.DECK_SIZE * BingoDeck.CELLS_PER_CARD];
+        for (BingoCard row : rows) {
+            int[][] numbers = readNumbers(row);
+            for (int r = 0; r < BingoDeck.CARD_SIZE; r++) {
+                for (int c = 0; c < BingoDeck.CARD_SIZE; c++) {
+                    if (r == BingoDeck.CARD_SIZE / 2 && c == BingoDeck.CARD_SIZE / 2) {
+                        if (numbers[r][c] != 0) {
+                            throw new IllegalStateException("Card " + row.getCardNumber() + " has a number on its free space");
+                        }
+                        continue;
+                    }
+                    cells[BingoDeck.cell(row.getCardNumber(), r, c)] = (byte) numbers[r][c];
+                }
+            }
+        }
+        return BingoDeck.of(cells);
+    }
+
+    private int[][] readNumbers(BingoCard row) {
+        try {
+            int[][] numbers = objectMapper.readValue(row.getNumbersJson(), int[][].class);
+            if (numbers.length != BingoDeck.CARD_SIZE) {
+                throw new IllegalStateException("Card " + row.getCardNumber() + " is not " + BingoDeck.CARD_SIZE + " rows");
+            }
+            for (int[] cells : numbers) {
+                if (cells.length != BingoDeck.CARD_SIZE) {
+                    throw new IllegalStateException("Card " + row.getCardNumber() + " has a row that is not " + BingoDeck.CARD_SIZE + " wide");
+                }
+            }
+            return numbers;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Card " + row.getCardNumber() + " has unreadable numbers", e);
+        }
+    }
+
+    private static List<BingoCardsResponse> cardsOf(BingoDeck deck) {
+        List<BingoCardsResponse> cards = new ArrayList<>(BingoDeck.DECK_SIZE);
+        for (int cardCode = 1; cardCode <= BingoDeck.DECK_SIZE; cardCode++) {
+            cards.add(BingoCardsResponse.builder()
+                    .cardCode(cardCode)
+                    .cardNumbers(deck.cardNumbers(cardCode))
+                    .build());
+        }
+        return Collections.unmodifiableList(cards);
+    }
+
+    private static DeckVersionResponse toResponse(DeckVersion version) {
+        return DeckVersionResponse.builder()
+                .version(version.getId())
+                .seed(version.getSeed())
+                .cardCount(BingoDeck.DECK_SIZE)
+                .activatedAt(version.getActivatedAt() != null
+                        ? version.getActivatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : null)
+                .build();
+    }
+
+    @Override
+    public BingoDeck getDeck() {
+        return active.deck();
+    }
+
+    @Override
+    public BingoDeck getDeck(long version) {
+        return loadedDeck(version).deck();
+    }
+
+    @Override
+    public long getVersion() {
+        return active.version();
+    }
+
+    @Override
+    public List<BingoCardsResponse> getCards() {
+        return active.cards();
+    }
+
+    @Override
+    public List<BingoCardsResponse> getCards(long version) {
+        return loadedDeck(version).cards();
+    }
+
+    @Override
+    public BingoCardsResponse getCard(long version, int cardCode) {
+        if (!BingoDeck.isValidCardCode(cardCode)) {
+            throw new ResourceNotFound("Card code must be between 1 and " + BingoDeck.DECK_SIZE);
+        }
+        return getCards(version).get(cardCode - 1);
+    }
+
+    @Override
+    public DeckVersionResponse getActiveVersion() {
+        return toResponse(activeVersion);
+    }
+
+    private record LoadedDeck(long version, BingoDeck deck, List<BingoCardsResponse> cards) { }
+}
@@ -1,28 +1,21 @@
 package com.bingo.Bingo.service.Impl;
 
 import com.bingo.Bingo.dto.response.BingoCardsResponse;
+import com.bingo.Bingo.service.DeckService;
 import com.bingo.Bingo.service.GameService;
-import com.bingo.Bingo.utils.GameFunctions;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
+@RequiredArgsConstructor
 public class GameServiceImpl implements GameService {
 
+    private final DeckService deckService;
 
     @Override
     public List<BingoCardsResponse> generateBingoCard() {
-        List<BingoCardsResponse> allBingoCards = new ArrayList<>();
-        for(int i=0; i<400; i++){
-            BingoCardsResponse bingoCardsResponse = BingoCardsResponse.builder()
-                    .cardCode(i)
-                    .cardNumbers(GameFunctions.generateBingoCard())
-                    .build();
-            allBingoCards.add(bingoCardsResponse);
-        }
-
-        return allBingoCards;
+        return deckService.getCards();
     }
 }
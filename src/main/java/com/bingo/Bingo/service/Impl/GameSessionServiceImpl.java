@@ -4,576 +4,357 @@ import com.bingo.Bingo.dto.request.JoinGameRequest;
 import com.bingo.Bingo.dto.request.BingoCallRequest;
 import com.bingo.Bingo.dto.response.GameSessionResponse;
 import com.bingo.Bingo.dto.response.BingoCardsResponse;
-import com.bingo.Bingo.dto.response.PlayerInfo;
+import com.bingo.Bingo.dto.response.AvailableCardsResponse;
+import com.bingo.Bingo.dto.response.SessionSnapshot;
+import com.bingo.Bingo.dto.response.UserView;
+import com.bingo.Bingo.cache.UserCache;
+import com.bingo.Bingo.mapper.UserMapper;
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.engine.CalledNumbers;
+import com.bingo.Bingo.engine.CardReservations;
+import com.bingo.Bingo.engine.WinDetector;
+import com.bingo.Bingo.event.GameEventPublisher;
+import com.bingo.Bingo.exception.CardTakenException;
+import com.bingo.Bingo.logging.DiagnosticLog;
+import com.bingo.Bingo.metrics.GameMetrics;
+import com.bingo.Bingo.persistence.SessionWriteBehind;
+import com.bingo.Bingo.state.SessionLeader;
+import com.bingo.Bingo.state.SessionStateStore;
+import com.bingo.Bingo.entity.CalledNumber;
 import com.bingo.Bingo.entity.GameSession;
 import com.bingo.Bingo.entity.PlayerGameSession;
-import com.bingo.Bingo.entity.User;
+import com.bingo.Bingo.repository.CalledNumberRepository;
 import com.bingo.Bingo.repository.GameSessionRepository;
 import com.bingo.Bingo.repository.PlayerGameSessionRepository;
-import com.bingo.Bingo.repository.UserRepository;
+import com.bingo.Bingo.service.DeckService;
 import com.bingo.Bingo.service.GameSessionService;
 
-import com.bingo.Bingo.utils.GameFunctions;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.InitializingBean;
 import com.bingo.Bingo.common.enums.GameStatus;
 
+/**
+ * Game sessions are owned by a single-threaded {@link com.bingo.Bingo.engine.SessionActor} each.
+ * Public methods hand their work to the session's loop, and the scheduler only fires timers that
+ * queue commands on it, so a session's entity and in-memory state are never touched concurrently.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class GameSessionServiceImpl implements GameSessionService, InitializingBean {
+public class GameSessionServiceImpl implements GameSessionService, InitializingBean, DisposableBean {
 
     private final GameSessionRepository gameSessionRepository;
+    private final CalledNumberRepository calledNumberRepository;
     private final PlayerGameSessionRepository playerGameSessionRepository;
-    private final UserRepository userRepository;
-    private final ObjectMapper objectMapper;
+    private final UserCache userCache;
+    private final DeckService deckService;
+    private final GameEventPublisher gameEventPublisher;
+    private final SessionWriteBehind sessionWriteBehind;
+    private final SessionStateStore sessionStateStore;
+    private final SessionLeader sessionLeader;
+    private final GameMetrics gameMetrics;
+    private final DiagnosticLog diagnosticLog;
+    private final SessionSnapshotBuilder sessionSnapshotBuilder;
+
+    // Round timing; the defaults are the production pace, the load test profile speeds them up
+    @Value("${bingo.game.countdown-seconds:30}")
+    private int countdownSeconds;
+    @Value("${bingo.game.call-interval-ms:3000}")
+    private long callIntervalMs;
+    @Value("${bingo.game.join-cutoff-seconds:10}")
+    private int joinCutoffSeconds;
 
-    
     // In-memory storage for active game sessions
-    private final Map<String, GameSession> activeSessions = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(5);
-    private final Map<String, ScheduledFuture<?>> scheduledCallingTasks = new ConcurrentHashMap<>();
-    private final Map<String, List<BingoCardsResponse>> sessionCards = new ConcurrentHashMap<>();
-    private final Map<String, Set<Integer>> sessionSelectedCardCodes = new ConcurrentHashMap<>();
-    private final Map<String, List<Integer>> sessionCalledNumbersOrdered = new ConcurrentHashMap<>();
-    private final Map<String, ScheduledFuture<?>> sessionCountdownTasks = new ConcurrentHashMap<>();
+    private final Map<String, LiveSession> activeSessions = new ConcurrentHashMap<>();
+    // Only fires timers; the work itself runs on the session loops
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
 
     @Override
     public List<BingoCardsResponse> generateBingoCard() {
+        // Cards of the deck the current game is played with, which after a rotation stays the old one until the game ends
+        LiveSession live = findActiveGameSession();
+        return live != null ? deckService.getCards(live.getDeckVersion()) : deckService.getCards();
+    }
+
+    @Override
+    public BingoCardsResponse getCard(int cardCode) {
+        LiveSession live = findActiveGameSession();
+        return deckService.getCard(live != null ? live.getDeckVersion() : deckService.getVersion(), cardCode);
+    }
+
+    @Override
+    public GameSessionResponse joinGame(JoinGameRequest request) {
+        Timer.Sample joinTimer = gameMetrics.startTimer();
+        String outcome = GameMetrics.JOIN_FAILED;
         try {
-            log.info("Generating 400 unique BINGO cards");
-            
-            List<BingoCardsResponse> cards = new ArrayList<>();
-            Set<String> cardSignatures = new HashSet<>(); // To ensure uniqueness
-            
-            // Generate 400 unique BINGO cards
-            for (int i = 0; i < 400; i++) {
-                try {
-                    List<List<Integer>> cardNumbers = GameFunctions.generateBingoCard();
-                    
-                    // Create a signature for this card to check uniqueness
-                    String cardSignature = createCardSignature(cardNumbers);
-                    
-                    // If this card is a duplicate, try to generate a new one
-                    int attempts = 0;
-                    while (cardSignatures.contains(cardSignature) && attempts < 20) {
-                        cardNumbers = GameFunctions.generateBingoCard();
-                        cardSignature = createCardSignature(cardNumbers);
-                        attempts++;
-                    }
-                    
-                    // If we still have a duplicate after 20 attempts, try a different approach
-                    if (cardSignatures.contains(cardSignature)) {
-                        // Try to modify the card slightly to make it unique
-                        cardNumbers = modifyCardToMakeUnique(cardNumbers, cardSignatures);
-                        cardSignature = createCardSignature(cardNumbers);
-                        
-                        // If still duplicate, skip this card
-                        if (cardSignatures.contains(cardSignature)) {
-                            log.warn("Could not generate unique card after modifications, skipping card {}", i + 1);
-                            continue;
-                        }
-                    }
-                    
-                    // Add the signature to our set and create the card
-                    cardSignatures.add(cardSignature);
-                    
-                    Integer cardCode = i + 1;
-                    BingoCardsResponse card = BingoCardsResponse.builder()
-                            .cardCode(cardCode)
-                            .cardNumbers(cardNumbers)
-                            .build();
-                    
-                    cards.add(card);
-                    
-                    // Log progress every 50 cards
-                    if ((i + 1) % 50 == 0) {
-                        log.info("Generated {} unique BINGO cards so far", cards.size());
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("Error generating card {}: {}", i + 1, e.getMessage(), e);
-                    // Continue with other cards
-                }
-            }
-            
-            // If we couldn't generate 400 unique cards, try to generate more to reach the target
-            if (cards.size() < 400) {
-                log.info("Only generated {} unique cards, attempting to generate more to reach 400", cards.size());
-                
-                int additionalAttempts = 0;
-                int maxAdditionalAttempts = 200; // Try up to 200 more attempts
-                
-                while (cards.size() < 400 && additionalAttempts < maxAdditionalAttempts) {
-                    try {
-                        List<List<Integer>> cardNumbers = GameFunctions.generateBingoCard();
-                        String cardSignature = createCardSignature(cardNumbers);
-                        
-                        if (!cardSignatures.contains(cardSignature)) {
-                            cardSignatures.add(cardSignature);
-                            
-                            Integer cardCode = cards.size() + 1;
-                            BingoCardsResponse card = BingoCardsResponse.builder()
-                                    .cardCode(cardCode)
-                                    .cardNumbers(cardNumbers)
-                                    .build();
-                            
-                            cards.add(card);
-                            
-                            if (cards.size() % 50 == 0) {
-                                log.info("Generated {} unique BINGO cards so far", cards.size());
-                            }
-                        }
-                        
-                        additionalAttempts++;
-                        
-                    } catch (Exception e) {
-                        log.error("Error generating additional card: {}", e.getMessage(), e);
-                        additionalAttempts++;
-                    }
+            while (true) {
+                // Get or create active game session
+                LiveSession live = getOrCreateActiveSession();
+                JoinResult result = live.getActor().call(() -> live.isEnded() ? null : joinGame(live, request));
+                if (result != null) {
+                    outcome = result.outcome();
+                    return result.response();
                 }
-                
-                log.info("After additional attempts, generated {} unique BINGO cards", cards.size());
+                // The session ended while the request was queued; join the next one
             }
-            
-            log.info("Successfully generated {} unique BINGO cards out of 400 requested", cards.size());
-            return cards;
-            
+        } catch (CardTakenException e) {
+            // Already logged on the session loop; losing a race for a card is not an error
+            outcome = GameMetrics.CARD_TAKEN;
+            throw e;
         } catch (Exception e) {
-            log.error("Error generating BINGO cards: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to generate BINGO cards", e);
+            log.error("Error in joinGame for user {}: {}", request.getTelegramId(), e.getMessage(), e);
+            throw e;
+        } finally {
+            gameMetrics.joinFinished(joinTimer, outcome);
         }
     }
-    
-    /**
-     * Create a unique signature for a BINGO card to check for duplicates.
-     * This method converts the card numbers into a string representation.
-     */
-    private String createCardSignature(List<List<Integer>> cardNumbers) {
-        if (cardNumbers == null || cardNumbers.isEmpty()) {
-            return "empty";
+
+    private record JoinResult(String outcome, GameSessionResponse response) { }
+
+    private JoinResult joinGame(LiveSession live, JoinGameRequest request) {
+        GameSession gameSession = live.getGameSession();
+        
+        // Check if game is already in progress (gameRoom phase) or if countdown has started
+        if ("gameRoom".equals(gameSession.getPhase()) || gameSession.getGameActive()) {
+            // Game is already in progress, player must wait for next game
+            log.debug("User {} tried to join game session {} but game is already in progress",
+                     request.getTelegramId(), gameSession.getSessionCode());
+            
+            // Return a response indicating the game is in progress
+            return new JoinResult(GameMetrics.LATE_JOIN, responseFor(live, null));
         }
         
-        StringBuilder signature = new StringBuilder();
-        for (List<Integer> row : cardNumbers) {
-            if (row != null) {
-                for (Integer num : row) {
-                    signature.append(num != null ? num : "null").append(",");
-                }
-            }
+        // Check if countdown has already started and is below a certain threshold
+        if (gameSession.getCountdown() != null && gameSession.getCountdown() < joinCutoffSeconds) {
+            log.debug("User {} tried to join game session {} but countdown is too low ({} seconds)",
+                     request.getTelegramId(), gameSession.getSessionCode(), gameSession.getCountdown());
+            
+            // Return a response indicating the game is about to start
+            return new JoinResult(GameMetrics.LATE_JOIN, responseFor(live, null));
         }
-        return signature.toString();
-    }
-    
-    /**
-     * Modify a BINGO card to make it unique by slightly changing some numbers.
-     * This helps ensure we can generate 400 unique cards.
-     */
-    private List<List<Integer>> modifyCardToMakeUnique(List<List<Integer>> originalCard, Set<String> existingSignatures) {
-        if (originalCard == null || originalCard.isEmpty()) {
-            return originalCard;
+        
+        // Ensure consistent phase/countdown state for all players
+        if (gameSession.getPhase() == null) {
+            gameSession.setPhase("cardSelection");
+        }
+        if (gameSession.getCountdown() == null || gameSession.getCountdown() <= 0) {
+            gameSession.setCountdown(countdownSeconds);
         }
         
-        List<List<Integer>> modifiedCard = new ArrayList<>();
-        Random random = new Random();
+        // Find user by telegram ID
+        UserView user = userCache.find(request.getTelegramId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
         
-        // Deep copy the original card
-        for (List<Integer> row : originalCard) {
-            List<Integer> newRow = new ArrayList<>(row);
-            modifiedCard.add(newRow);
+        if (gameSession.getPlayerSessions() == null) {
+            gameSession.setPlayerSessions(new ArrayList<>());
         }
+        String sessionCode = live.getSessionCode();
+        Integer requestedCardCode = request.getSelectedCardCode();
         
-        // Try to modify a few numbers to make it unique
-        int modificationAttempts = 0;
-        String newSignature;
+        // The session loop owns the player list; with shared state the player may have joined through another node
+        reloadPlayers(live);
+        PlayerGameSession existingPlayer = findPlayerForUser(gameSession, user.getId());
+        Integer previousCardCode = existingPlayer != null ? existingPlayer.getSelectedCardCode() : null;
         
-        do {
-            // Reset to original
-            for (int i = 0; i < originalCard.size(); i++) {
-                for (int j = 0; j < originalCard.get(i).size(); j++) {
-                    modifiedCard.get(i).set(j, originalCard.get(i).get(j));
-                }
-            }
-            
-            // Modify 2-3 random numbers (excluding the center free space)
-            int modifications = random.nextInt(2) + 2; // 2 or 3 modifications
-            
-            for (int mod = 0; mod < modifications; mod++) {
-                int row = random.nextInt(5);
-                int col = random.nextInt(5);
-                
-                // Skip the center position (free space)
-                if (row == 2 && col == 2) {
-                    continue;
-                }
-                
-                // Get the current number and its range
-                int currentNum = modifiedCard.get(row).get(col);
-                int[][] numberRanges = {{1,15}, {16,30}, {31,45}, {46,60}, {61,75}};
-                int min = numberRanges[col][0];
-                int max = numberRanges[col][1];
+        // Reserve the requested card; the bitmap is the only record of which cards are taken
+        boolean cardChanged = !Objects.equals(requestedCardCode, previousCardCode);
+        if (cardChanged && requestedCardCode != null) {
+            boolean reserved = previousCardCode != null
+                    ? sessionStateStore.swapCard(sessionCode, previousCardCode, requestedCardCode)
+                    : sessionStateStore.claimCard(sessionCode, requestedCardCode);
+            if (!reserved) {
+                PlayerGameSession cardOwner = findPlayerWithCard(gameSession, requestedCardCode);
+                String ownerInfo = cardOwner == null ? "Unknown" : "Player ID: " + cardOwner.getId() +
+                    (cardOwner.getUser() != null ? " (Telegram: " + cardOwner.getUser().getTelegramId() + ")" : "");
                 
-                // Generate a new number in the same range
-                int newNum;
-                do {
-                    newNum = random.nextInt(max - min + 1) + min;
-                } while (newNum == currentNum);
+                log.debug("User {} tried to select card {} but it's already taken by: {}", 
+                        request.getTelegramId(), requestedCardCode, ownerInfo);
                 
-                modifiedCard.get(row).set(col, newNum);
+                throw new CardTakenException("Card " + requestedCardCode + " is already taken by another player");
             }
-            
-            newSignature = createCardSignature(modifiedCard);
-            modificationAttempts++;
-            
-        } while (existingSignatures.contains(newSignature) && modificationAttempts < 10);
+        } else if (cardChanged) {
+            sessionStateStore.releaseCard(sessionCode, previousCardCode);
+        }
+        
+        // Card changes to push to subscribers once the join is saved
+        Integer takenCardCode = cardChanged ? requestedCardCode : null;
+        Integer releasedCardCode = cardChanged ? previousCardCode : null;
         
-        return modifiedCard;
-    }
-
-    @Override
-    public GameSessionResponse joinGame(JoinGameRequest request) {
         try {
-            // Get or create active game session
-            GameSession gameSession = getOrCreateActiveSession();
-            
-            // Check if game is already in progress (gameRoom phase) or if countdown has started
-            if ("gameRoom".equals(gameSession.getPhase()) || gameSession.getGameActive()) {
-                // Game is already in progress, player must wait for next game
-                log.info("User {} tried to join game session {} but game is already in progress", 
-                         request.getTelegramId(), gameSession.getSessionCode());
-                
-                // Return a response indicating the game is in progress
-                return buildGameSessionResponse(gameSession, null);
-            }
-            
-            // Check if countdown has already started and is below a certain threshold
-            if (gameSession.getCountdown() != null && gameSession.getCountdown() < 10) {
-                log.info("User {} tried to join game session {} but countdown is too low ({} seconds)", 
-                         request.getTelegramId(), gameSession.getSessionCode(), gameSession.getCountdown());
-                
-                // Return a response indicating the game is about to start
-                return buildGameSessionResponse(gameSession, null);
-            }
-            
-            // Ensure consistent phase/countdown state for all players
-            if (gameSession.getPhase() == null) {
-                gameSession.setPhase("cardSelection");
-            }
-            if (gameSession.getCountdown() == null || gameSession.getCountdown() <= 0) {
-                gameSession.setCountdown(30);
-            }
-            
-            // Find user by telegram ID
-            User user = userRepository.findByTelegramId(request.getTelegramId())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            
-            // Check if the requested card is already taken by another player
-            if (request.getSelectedCardCode() != null) {
-                // First check the actual player data to see if anyone has this card
-                Optional<PlayerGameSession> cardOwner = gameSession.getPlayerSessions() != null ? 
-                    gameSession.getPlayerSessions().stream()
-                        .filter(p -> p != null && p.getSelectedCardCode() != null && 
-                                   p.getSelectedCardCode().equals(request.getSelectedCardCode()))
-                        .findFirst() : Optional.empty();
-                
-                if (cardOwner.isPresent()) {
-                    String ownerInfo = "Player ID: " + cardOwner.get().getId() + 
-                        (cardOwner.get().getUser() != null ? " (Telegram: " + cardOwner.get().getUser().getTelegramId() + ")" : "Unknown");
-                    
-                    log.warn("User {} tried to select card {} but it's already taken by: {}", 
-                            request.getTelegramId(), request.getSelectedCardCode(), ownerInfo);
-                    
-                    throw new RuntimeException("Card " + request.getSelectedCardCode() + " is already taken by another player");
-                }
-                
-                // Also check the sessionSelectedCardCodes set as a secondary validation
-                Set<Integer> selectedCards = sessionSelectedCardCodes.computeIfAbsent(gameSession.getSessionCode(), k -> ConcurrentHashMap.newKeySet());
-                if (selectedCards.contains(request.getSelectedCardCode())) {
-                    log.warn("User {} tried to select card {} but it's marked as taken in sessionSelectedCardCodes", 
-                            request.getTelegramId(), request.getSelectedCardCode());
-                    
-                    // Clean up the orphaned card code
-                    selectedCards.remove(request.getSelectedCardCode());
-                    log.info("Cleaned up orphaned card code {} from sessionSelectedCardCodes", request.getSelectedCardCode());
-                }
-            }
-            
-            // Check if user already joined this session
-            Optional<PlayerGameSession> existingPlayer = playerGameSessionRepository
-                    .findByUserAndGameSession(user, gameSession);
-            
-            if (existingPlayer.isPresent()) {
-                PlayerGameSession player = existingPlayer.get();
-                
-                // Get the previous card code before updating
-                Integer previousCardCode = player.getSelectedCardCode();
-                
+            if (existingPlayer != null) {
                 // Update existing player session
-                if (request.getSelectedCardCode() != null) {
-                    // Check if they're trying to select a different card that's already taken
-                    if (!request.getSelectedCardCode().equals(previousCardCode)) {
-                        Set<Integer> selectedCards = sessionSelectedCardCodes.computeIfAbsent(gameSession.getSessionCode(), k -> ConcurrentHashMap.newKeySet());
-                        if (selectedCards.contains(request.getSelectedCardCode())) {
-                            // Find who has this card
-                            Optional<PlayerGameSession> cardOwner = gameSession.getPlayerSessions() != null ? 
-                                gameSession.getPlayerSessions().stream()
-                                    .filter(p -> p != null && p.getSelectedCardCode() != null && 
-                                               p.getSelectedCardCode().equals(request.getSelectedCardCode()) &&
-                                               !p.getId().equals(player.getId()))
-                                    .findFirst() : Optional.empty();
-                            
-                            String ownerInfo = cardOwner.isPresent() ? 
-                                "Player ID: " + cardOwner.get().getId() + 
-                                (cardOwner.get().getUser() != null ? " (Telegram: " + cardOwner.get().getUser().getTelegramId() + ")" : "") : 
-                                "Unknown";
-                            
-                            log.warn("User {} tried to change from card {} to card {} but it's already taken by: {}", 
-                                    request.getTelegramId(), previousCardCode, request.getSelectedCardCode(), ownerInfo);
-                            
-                            throw new RuntimeException("Card " + request.getSelectedCardCode() + " is already taken by another player");
-                        }
-                    }
-                    
-                    player.setSelectedCardCode(request.getSelectedCardCode());
-                    try {
-                        player.setCardNumbersJson(objectMapper.writeValueAsString(request.getCardNumbers()));
-                    } catch (JsonProcessingException e) {
-                        throw new RuntimeException("Error serializing card numbers", e);
-                    }
-                } else {
-                    player.setSelectedCardCode(null);
-                    player.setCardNumbersJson(null);
-                }
+                existingPlayer.setSelectedCardCode(requestedCardCode);
                 
-                // Save the player first to ensure ID is available
-                PlayerGameSession savedPlayer = playerGameSessionRepository.save(player);
+                playerGameSessionRepository.save(existingPlayer);
+                gameMetrics.saved("player", gameSession.getPhase(), 1);
                 
-                // IMPORTANT: Free up the previous card FIRST, regardless of new selection
-                if (previousCardCode != null && (request.getSelectedCardCode() == null || !previousCardCode.equals(request.getSelectedCardCode()))) {
-                    Set<Integer> selectedCards = sessionSelectedCardCodes.computeIfAbsent(gameSession.getSessionCode(), k -> ConcurrentHashMap.newKeySet());
-                    selectedCards.remove(previousCardCode);
-                    log.info("Freed up previous card code {} for session {} (player {} changed selection)", 
+                if (releasedCardCode != null) {
+                    log.debug("Freed up previous card code {} for session {} (player {} changed selection)", 
                             previousCardCode, gameSession.getSessionCode(), request.getTelegramId());
-                    
-                    // Also remove from any other players who might have this card
-                    for (PlayerGameSession otherPlayer : gameSession.getPlayerSessions()) {
-                        if (otherPlayer != null && otherPlayer.getId() != null && 
-                            !otherPlayer.getId().equals(player.getId()) && 
-                            previousCardCode.equals(otherPlayer.getSelectedCardCode())) {
-                            otherPlayer.setSelectedCardCode(null);
-                            otherPlayer.setCardNumbersJson(null);
-                            playerGameSessionRepository.save(otherPlayer);
-                            log.info("Cleared conflicting card selection for player {} (had card {})", 
-                                    otherPlayer.getId(), previousCardCode);
-                        }
-                    }
-                    
-                    // Log state after freeing up card
-                    logCardTrackingState(gameSession, "After freeing up previous card");
-                }
-                
-                // Handle player session list management - keep ALL players in the list for debugging
-                // Initialize playerSessions if null
-                if (gameSession.getPlayerSessions() == null) {
-                    gameSession.setPlayerSessions(new ArrayList<>());
-                }
-                
-                // Check if player is already in the list by ID to prevent duplicates
-                boolean playerExists = gameSession.getPlayerSessions().stream()
-                        .anyMatch(p -> p.getId() != null && p.getId().equals(savedPlayer.getId()));
-                
-                if (!playerExists) {
-                    gameSession.getPlayerSessions().add(savedPlayer);
-                    log.info("Existing player {} added to playerSessions for session {} (card: {}, ID: {})", 
-                            request.getTelegramId(), gameSession.getSessionCode(), request.getSelectedCardCode(), savedPlayer.getId());
                 }
-                
-                // Handle card selection logic
-                if (request.getSelectedCardCode() != null) {
-                    // Mark the new selected card as taken for this session
-                    Set<Integer> selectedCards = sessionSelectedCardCodes.computeIfAbsent(gameSession.getSessionCode(), k -> ConcurrentHashMap.newKeySet());
-                    selectedCards.add(request.getSelectedCardCode());
-                    log.info("Marked card code {} as taken for session {} (player {})", 
-                            request.getSelectedCardCode(), gameSession.getSessionCode(), request.getTelegramId());
-                    
-                    // Log state after marking new card
-                    logCardTrackingState(gameSession, "After marking new card");
-                } else {
+                if (requestedCardCode == null) {
                     // Player removed their card selection but stays in the session for debugging
-                    log.info("Player {} removed card selection but remains in session {} for debugging", 
+                    log.debug("Player {} removed card selection but remains in session {} for debugging", 
                             request.getTelegramId(), gameSession.getSessionCode());
                 }
             } else {
                 // Create new player session
                 PlayerGameSession playerSession = PlayerGameSession.builder()
-                        .user(user)
+                        .user(UserMapper.toReference(user))
                         .gameSession(gameSession)
-                        .selectedCardCode(request.getSelectedCardCode())
+                        .selectedCardCode(requestedCardCode)
                         .build();
                 
-                try {
-                    playerSession.setCardNumbersJson(objectMapper.writeValueAsString(request.getCardNumbers()));
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException("Error serializing card numbers", e);
-                }
-                
                 // Save the player session first to get the ID
                 PlayerGameSession savedPlayerSession = playerGameSessionRepository.save(playerSession);
+                gameMetrics.saved("player", gameSession.getPhase(), 1);
                 
                 // Add to playerSessions for ALL players who join (for debugging purposes)
-                if (gameSession.getPlayerSessions() == null) {
-                    gameSession.setPlayerSessions(new ArrayList<>());
-                }
-                
-                // Use the saved player session with the generated ID
-                // Ensure no duplicate by ID
-                boolean playerExists = gameSession.getPlayerSessions().stream()
-                        .anyMatch(p -> p.getId() != null && p.getId().equals(savedPlayerSession.getId()));
-                
-                if (!playerExists) {
-                    gameSession.getPlayerSessions().add(savedPlayerSession);
-                    log.info("New player {} added to playerSessions for session {} (card: {}, ID: {})", 
-                            request.getTelegramId(), gameSession.getSessionCode(), request.getSelectedCardCode(), savedPlayerSession.getId());
-                }
-                
-                // Only mark card as taken if they actually selected one
-                if (request.getSelectedCardCode() != null) {
-                    // Mark the selected card as taken for this session
-                    sessionSelectedCardCodes.computeIfAbsent(gameSession.getSessionCode(), k -> ConcurrentHashMap.newKeySet()).add(request.getSelectedCardCode());
-                    log.info("New player {} marked card code {} as taken for session {}", 
-                            request.getTelegramId(), request.getSelectedCardCode(), gameSession.getSessionCode());
-                }
+                gameSession.getPlayerSessions().add(savedPlayerSession);
+                log.debug("New player {} added to playerSessions for session {} (card: {}, ID: {})", 
+                        request.getTelegramId(), gameSession.getSessionCode(), requestedCardCode, savedPlayerSession.getId());
             }
-            
-            // Clean up any duplicate references before saving
-            cleanupDuplicatePlayerSessions(gameSession);
-            
-            // Clean up any orphaned card codes
-            cleanupOrphanedCardCodes(gameSession);
-            
-            // Sync player count with selected card codes to ensure accuracy
-            syncPlayerCountWithSelectedCards(gameSession);
-            
-            // Save game session without altering lifecycle; keep broadcast autonomous
-            gameSessionRepository.save(gameSession);
-            activeSessions.put(gameSession.getSessionCode(), gameSession);
-            
-            // Ensure countdown is scheduled if not already running
-            if ("cardSelection".equals(gameSession.getPhase()) && !sessionCountdownTasks.containsKey(gameSession.getSessionCode())) {
-                ensureCountdownScheduled(gameSession);
+        } catch (RuntimeException e) {
+            // Hand the reservation back so the bitmap keeps matching the players
+            if (takenCardCode != null) {
+                sessionStateStore.releaseCard(sessionCode, takenCardCode);
             }
-            
-            // Log detailed player join information
-            int totalPlayerCount = gameSession.getPlayerSessions() != null ? 
-                    (int) gameSession.getPlayerSessions().stream()
-                            .filter(p -> p != null && p.getUser() != null)
-                            .count() : 0;
-            
-            int activePlayerCount = gameSession.getPlayerSessions() != null ? 
-                    (int) gameSession.getPlayerSessions().stream()
-                            .filter(p -> p != null && p.getSelectedCardCode() != null)
-                            .count() : 0;
-            
-            log.info("User {} joined game session {} with card code: {} - Total players: {}, Active players: {}", 
-                    user.getTelegramId(), gameSession.getSessionCode(), request.getSelectedCardCode(), 
-                    totalPlayerCount, activePlayerCount);
-            
-            // Log detailed card tracking state for debugging
-            logCardTrackingState(gameSession, "After player join");
-            
-            // Log all players in the session for debugging
-            logAllPlayersInSession(gameSession, "After player join");
-            
-            // Additional debugging: Log the current state of the session after join
-            log.info("Session {} state after join - PlayerSessions size: {}, Selected cards: {}", 
-                     gameSession.getSessionCode(), 
-                     gameSession.getPlayerSessions() != null ? gameSession.getPlayerSessions().size() : 0,
-                     sessionSelectedCardCodes.getOrDefault(gameSession.getSessionCode(), new HashSet<>()).size());
-            
-            // Log each player in the session
-            if (gameSession.getPlayerSessions() != null) {
-                log.info("Session {} - Current players after join:", gameSession.getSessionCode());
-                for (PlayerGameSession player : gameSession.getPlayerSessions()) {
-                    if (player != null && player.getUser() != null) {
-                        log.info("  - Player {} (ID: {}): Card: {}", 
-                                player.getUser().getTelegramId(), 
-                                player.getId(),
-                                player.getSelectedCardCode() != null ? player.getSelectedCardCode() : "NO CARD");
-                    }
-                }
+            if (releasedCardCode != null) {
+                sessionStateStore.claimCard(sessionCode, releasedCardCode);
+            }
+            if (existingPlayer != null) {
+                existingPlayer.setSelectedCardCode(previousCardCode);
             }
-            
-            return buildGameSessionResponse(gameSession, user);
-            
-        } catch (Exception e) {
-            log.error("Error in joinGame for user {}: {}", request.getTelegramId(), e.getMessage(), e);
             throw e;
         }
+        markPlayersChanged(live);
+        
+        if (takenCardCode != null) {
+            log.debug("Marked card code {} as taken for session {} (player {})", 
+                    takenCardCode, gameSession.getSessionCode(), request.getTelegramId());
+        }
+        
+        int cardHolders = countPlayersWithCards(gameSession);
+        if (releasedCardCode != null) {
+            gameEventPublisher.cardReleased(gameSession.getSessionCode(), releasedCardCode, cardHolders);
+        }
+        if (takenCardCode != null) {
+            gameEventPublisher.cardTaken(gameSession.getSessionCode(), takenCardCode, cardHolders);
+        }
+        
+        // Ensure countdown is scheduled if not already running
+        if ("cardSelection".equals(gameSession.getPhase())) {
+            ensureCountdownScheduled(live);
+        }
+        
+        log.atInfo()
+                .setMessage("Player joined")
+                .addKeyValue("session", sessionCode)
+                .addKeyValue("telegramId", user.getTelegramId())
+                .addKeyValue("card", requestedCardCode)
+                .addKeyValue("previousCard", previousCardCode)
+                .addKeyValue("players", gameSession.getPlayerSessions().size())
+                .addKeyValue("cardHolders", cardHolders)
+                .log();
+        
+        logAllPlayersInSession(gameSession, "After player join");
+        
+        publishSnapshot(live);
+        return new JoinResult(GameMetrics.JOINED, responseFor(live, user.getTelegramId()));
     }
 
     @Override
     public GameSessionResponse getGameSession(String sessionCode) {
         try {
-            GameSession gameSession = activeSessions.get(sessionCode);
-            if (gameSession == null) {
+            LiveSession live = activeSessions.get(sessionCode);
+            if (live == null) {
                 throw new RuntimeException("Game session not found");
             }
             
-            // Refresh player sessions from database to ensure accuracy
-            refreshPlayerSessionsFromDatabase(gameSession);
-            
-            log.debug("Retrieved game session: {}, phase: {}, players: {}", 
-                     sessionCode, gameSession.getPhase(), 
-                     gameSession.getPlayerSessions() != null ? gameSession.getPlayerSessions().size() : 0);
-            
-            return buildGameSessionResponse(gameSession, null);
-            
+            return responseFor(live, null);
+        
         } catch (Exception e) {
             log.error("Error getting game session {}: {}", sessionCode, e.getMessage(), e);
             throw e;
         }
     }
 
+    /**
+     * Card availability straight from the session's reservation bitmap; this neither queues on
+     * the session loop nor builds the full session response.
+     */
+    @Override
+    public AvailableCardsResponse getAvailableCards(String sessionCode, int offset, int limit) {
+        CardReservations reservations = reservationsFor(sessionCode);
+        List<Integer> takenCards = reservations.takenCodes();
+        return AvailableCardsResponse.builder()
+                .sessionCode(sessionCode)
+                .totalCards(BingoDeck.DECK_SIZE)
+                .takenCount(takenCards.size())
+                .availableCount(BingoDeck.DECK_SIZE - takenCards.size())
+                .takenCards(takenCards)
+                .availableCards(reservations.availableCodes(offset, limit))
+                .build();
+    }
+
+    @Override
+    public AvailableCardsResponse getRandomAvailableCard(String sessionCode) {
+        CardReservations reservations = reservationsFor(sessionCode);
+        int randomCard = reservations.randomAvailable(ThreadLocalRandom.current());
+        int takenCount = reservations.count();
+        return AvailableCardsResponse.builder()
+                .sessionCode(sessionCode)
+                .totalCards(BingoDeck.DECK_SIZE)
+                .takenCount(takenCount)
+                .availableCount(BingoDeck.DECK_SIZE - takenCount)
+                .randomCard(randomCard == CardReservations.NONE ? null : randomCard)
+                .build();
+    }
+
+    private CardReservations reservationsFor(String sessionCode) {
+        if (!activeSessions.containsKey(sessionCode)) {
+            throw new RuntimeException("Game session not found");
+        }
+        return sessionStateStore.cards(sessionCode);
+    }
+
     public GameSessionResponse getGameSessionWithUser(String sessionCode, Long telegramId) {
         try {
-            GameSession gameSession = activeSessions.get(sessionCode);
-            if (gameSession == null) {
+            LiveSession live = activeSessions.get(sessionCode);
+            if (live == null) {
                 throw new RuntimeException("Game session not found");
             }
             
-            User user = null;
+            Long viewerId = null;
             if (telegramId != null) {
                 try {
-                    user = userRepository.findByTelegramId(telegramId)
+                    viewerId = userCache.find(telegramId)
+                            .map(UserView::getTelegramId)
                             .orElse(null);
                 } catch (Exception e) {
                     log.warn("Could not find user with telegram ID: {}", telegramId, e);
-                    // User not found, continue with null user
+                    // User not found, continue as a spectator
                 }
             }
             
-            // Refresh player sessions from database to ensure accuracy
-            refreshPlayerSessionsFromDatabase(gameSession);
-            
-            log.debug("Retrieved game session with user: {}, phase: {}, players: {}, user: {}", 
-                     sessionCode, gameSession.getPhase(), 
-                     gameSession.getPlayerSessions() != null ? gameSession.getPlayerSessions().size() : 0,
-                     user != null ? user.getTelegramId() : "null");
-            
-            return buildGameSessionResponse(gameSession, user);
-            
+            return responseFor(live, viewerId);
+        
         } catch (Exception e) {
             log.error("Error getting game session with user {}: {}", sessionCode, e.getMessage(), e);
             throw e;
@@ -583,110 +364,95 @@ public class GameSessionServiceImpl implements GameSessionService, InitializingB
     @Override
     public GameSessionResponse getActiveGameSession() {
         try {
-            GameSession activeSession = findActiveGameSession();
-            if (activeSession == null) {
-                // If no active session exists, get the one that should have been created at startup
-                activeSession = getOrCreateActiveSession();
-            }
-            // Ensure countdown is running while in cardSelection
-            if ("cardSelection".equals(activeSession.getPhase())) {
-                ensureCountdownScheduled(activeSession);
-            }
-            
-            // Force resync of card tracking state to ensure accuracy
-            forceCardTrackingResync(activeSession);
-            
-            // Refresh player sessions from database to ensure accuracy
-            refreshPlayerSessionsFromDatabase(activeSession);
-            
-            log.debug("Retrieved active game session: {}, phase: {}, players: {}", 
-                     activeSession.getSessionCode(), activeSession.getPhase(), 
-                     activeSession.getPlayerSessions() != null ? activeSession.getPlayerSessions().size() : 0);
-            
-            // Log all players in the session for debugging
-            logAllPlayersInSession(activeSession, "getActiveGameSession");
-            
-            return buildGameSessionResponse(activeSession, null);
-            
+            return responseFor(getOrCreateActiveSession(), null);
+        
         } catch (Exception e) {
             log.error("Error getting active game session: {}", e.getMessage(), e);
             
             // Return a minimal response to prevent complete failure
-            return GameSessionResponse.builder()
-                    .sessionCode("error")
-                    .phase("error")
-                    .countdown(0)
-                    .gameActive(false)
-                    .calledNumbers(new HashSet<>())
-                    .calledNumbersOrdered(new ArrayList<>())
-                    .currentCall(null)
-                    .playerCount(0)
-                    .winner(null)
-                    .winningCardNumbers(null)
-                    .selectedCardCodes(new ArrayList<>())
-                    .hasSelectedCard(false)
-                    .waitMessage("Error loading game session")
-                    .gameInProgress(false)
-                    .players(new ArrayList<>())
-                    .build();
+            return sessionSnapshotBuilder.errorResponse("error", "Error loading game session");
+        }
+    }
+
+    @Override
+    public SessionSnapshot getSnapshot(String sessionCode) {
+        LiveSession live = activeSessions.get(sessionCode);
+        if (live == null) {
+            throw new RuntimeException("Game session not found");
+        }
+        return live.getSnapshot();
+    }
+
+    /**
+     * Completes with the current snapshot if it is newer than {@code sinceVersion}, otherwise
+     * with the snapshot published by the session's next change.
+     */
+    @Override
+    public CompletableFuture<SessionSnapshot> awaitChange(String sessionCode, long sinceVersion) {
+        LiveSession live = activeSessions.get(sessionCode);
+        if (live == null) {
+            throw new RuntimeException("Game session not found");
+        }
+        
+        SessionSnapshot current = live.getSnapshot();
+        if (current.getVersion() > sinceVersion) {
+            return CompletableFuture.completedFuture(current);
+        }
+        
+        CompletableFuture<SessionSnapshot> change = new CompletableFuture<>();
+        live.getChangeWaiters().add(change);
+        // A caller that gives up cancels the future; don't keep it queued on a quiet session
+        change.whenComplete((snapshot, error) -> {
+            if (change.isCancelled()) {
+                live.getChangeWaiters().remove(change);
+            }
+        });
+        // The session may have changed between the check and the registration
+        current = live.getSnapshot();
+        if (current.getVersion() > sinceVersion) {
+            change.complete(current);
+        }
+        return change;
+    }
+
+    @Override
+    public SessionSnapshot getActiveSnapshot() {
+        try {
+            return getOrCreateActiveSession().getSnapshot();
+        
+        } catch (Exception e) {
+            log.error("Error getting active game session: {}", e.getMessage(), e);
+            return sessionSnapshotBuilder.snapshotOf(0, sessionSnapshotBuilder.errorResponse("error", "Error loading game session"));
         }
     }
-    
+
     /**
      * Get information about when the next game will be available.
      * This is useful for players who arrive when a game is in progress.
      */
     public GameSessionResponse getNextGameInfo() {
         try {
-            GameSession activeSession = findActiveGameSession();
-            if (activeSession == null) {
-                // Create a new session if none exists
-                activeSession = getOrCreateActiveSession();
-                if ("cardSelection".equals(activeSession.getPhase())) {
-                    ensureCountdownScheduled(activeSession);
-                }
-            }
-            
-            // Force resync of card tracking state to ensure accuracy
-            forceCardTrackingResync(activeSession);
-            
-            // Build response with next game information
-            GameSessionResponse response = buildGameSessionResponse(activeSession, null);
+            GameSessionResponse current = responseFor(getOrCreateActiveSession(), null);
             
             // Add specific message for next game availability
-            if ("gameRoom".equals(activeSession.getPhase()) || activeSession.getGameActive()) {
-                response.setWaitMessage("Current game is in progress. A new game will start automatically when this one ends.");
-            } else if (activeSession.getCountdown() != null && activeSession.getCountdown() < 10) {
-                response.setWaitMessage("Game is about to start! Please wait for the next round.");
+            String waitMessage;
+            if ("gameRoom".equals(current.getPhase()) || current.getGameActive()) {
+                waitMessage = "Current game is in progress. A new game will start automatically when this one ends.";
+            } else if (current.getCountdown() != null && current.getCountdown() < joinCutoffSeconds) {
+                waitMessage = "Game is about to start! Please wait for the next round.";
             } else {
-                response.setWaitMessage("New game is available! Select a card to join.");
+                waitMessage = "New game is available! Select a card to join.";
             }
             
-            return response;
-            
+            return current.toBuilder().waitMessage(waitMessage).build();
+        
         } catch (Exception e) {
             log.error("Error getting next game info: {}", e.getMessage(), e);
             
-            return GameSessionResponse.builder()
-                    .sessionCode("error")
-                    .phase("error")
-                    .countdown(0)
-                    .gameActive(false)
-                    .calledNumbers(new HashSet<>())
-                    .calledNumbersOrdered(new ArrayList<>())
-                    .currentCall(null)
-                    .playerCount(0)
-                    .winner(null)
-                    .winningCardNumbers(null)
-                    .selectedCardCodes(new ArrayList<>())
-                    .hasSelectedCard(false)
-                    .waitMessage("Error loading next game information")
-                    .gameInProgress(false)
-                    .players(new ArrayList<>())
-                    .build();
+            return sessionSnapshotBuilder.errorResponse("error", "Error loading next game information");
         }
     }
-    
+
     /**
      * Manually restart the game session. This creates a new game session
      * and cancels any ongoing games.
@@ -696,122 +462,93 @@ public class GameSessionServiceImpl implements GameSessionService, InitializingB
             log.info("Manually restarting game session");
             
             // End all current sessions
-            for (String sessionCode : new ArrayList<>(activeSessions.keySet())) {
-                endGame(sessionCode);
+            for (LiveSession live : new ArrayList<>(activeSessions.values())) {
+                if (!live.isEnded()) {
+                    endGame(live.getSessionCode());
+                }
             }
             
             // Create a new session
-            GameSession newSession = getOrCreateActiveSession();
-            if ("cardSelection".equals(newSession.getPhase())) {
-                ensureCountdownScheduled(newSession);
-                log.info("Manually created new game session: {} and started countdown", newSession.getSessionCode());
-            }
-            
-            return buildGameSessionResponse(newSession, null);
+            LiveSession newSession = getOrCreateActiveSession();
+            log.info("Manually created new game session: {} and started countdown", newSession.getSessionCode());
             
+            return responseFor(newSession, null);
+        
         } catch (Exception e) {
             log.error("Error manually restarting game: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to restart game", e);
         }
     }
-    
+
     /**
      * Get detailed game status information including waiting times and next game availability.
      * This provides comprehensive information for players and spectators.
      */
     public GameSessionResponse getDetailedGameStatus() {
         try {
-            GameSession activeSession = findActiveGameSession();
-            if (activeSession == null) {
-                // Create a new session if none exists
-                activeSession = getOrCreateActiveSession();
-                if ("cardSelection".equals(activeSession.getPhase())) {
-                    ensureCountdownScheduled(activeSession);
-                }
-            }
-            
-            // Force resync of card tracking state to ensure accuracy
-            forceCardTrackingResync(activeSession);
-            
-            GameSessionResponse response = buildGameSessionResponse(activeSession, null);
+            GameSessionResponse current = responseFor(getOrCreateActiveSession(), null);
             
             // Add detailed status information
-            if ("gameRoom".equals(activeSession.getPhase()) || activeSession.getGameActive()) {
-                response.setWaitMessage("🎮 Game is currently in progress! You can watch the current game or wait for the next round. A new game will start automatically when this one ends.");
-            } else if (activeSession.getCountdown() != null && activeSession.getCountdown() < 10) {
-                response.setWaitMessage("⏰ Game is about to start in " + activeSession.getCountdown() + " seconds! Please wait for the next round.");
-            } else if (activeSession.getCountdown() != null && activeSession.getCountdown() > 0) {
-                response.setWaitMessage("🎯 Game is open for players! Join now with " + activeSession.getCountdown() + " seconds remaining to select your card.");
+            String waitMessage;
+            if ("gameRoom".equals(current.getPhase()) || current.getGameActive()) {
+                waitMessage = "🎮 Game is currently in progress! You can watch the current game or wait for the next round. A new game will start automatically when this one ends.";
+            } else if (current.getCountdown() != null && current.getCountdown() < joinCutoffSeconds) {
+                waitMessage = "⏰ Game is about to start in " + current.getCountdown() + " seconds! Please wait for the next round.";
+            } else if (current.getCountdown() != null && current.getCountdown() > 0) {
+                waitMessage = "🎯 Game is open for players! Join now with " + current.getCountdown() + " seconds remaining to select your card.";
             } else {
-                response.setWaitMessage("🚀 New game is available! Select a card to join and start playing.");
+                waitMessage = "🚀 New game is available! Select a card to join and start playing.";
             }
             
-            return response;
-            
+            return current.toBuilder().waitMessage(waitMessage).build();
+        
         } catch (Exception e) {
             log.error("Error getting detailed game status: {}", e.getMessage(), e);
             
-            return GameSessionResponse.builder()
-                    .sessionCode("error")
-                    .phase("error")
-                    .countdown(0)
-                    .gameActive(false)
-                    .calledNumbers(new HashSet<>())
-                    .calledNumbersOrdered(new ArrayList<>())
-                    .currentCall(null)
-                    .playerCount(0)
-                    .winner(null)
-                    .winningCardNumbers(null)
-                    .selectedCardCodes(new ArrayList<>())
-                    .hasSelectedCard(false)
-                    .waitMessage("Error loading game status. Please try again later.")
-                    .gameInProgress(false)
-                    .players(new ArrayList<>())
-                    .build();
+            return sessionSnapshotBuilder.errorResponse("error", "Error loading game status. Please try again later.");
         }
     }
-    
+
     @Override
     public GameSessionResponse checkForWinner(String sessionCode) {
         try {
             log.info("Manually checking for winner in session: {}", sessionCode);
             
-            GameSession gameSession = activeSessions.get(sessionCode);
-            if (gameSession == null) {
+            LiveSession live = activeSessions.get(sessionCode);
+            if (live == null) {
                 throw new RuntimeException("Game session not found");
             }
             
-            // Refresh player sessions from database to ensure accuracy
-            refreshPlayerSessionsFromDatabase(gameSession);
-            
-            // Check if there's already a winner
-            if (gameSession.getWinningPlayer() != null) {
-                log.info("Session {} already has a winner: {}", sessionCode, 
-                         gameSession.getWinningPlayer().getUser().getFirstName());
-                return buildGameSessionResponse(gameSession, null);
-            }
-            
-            // Check for new winners
-            if (gameSession.getCalledNumbers() != null && !gameSession.getCalledNumbers().isEmpty()) {
-                for (PlayerGameSession player : gameSession.getPlayerSessions()) {
-                    if (player != null && player.getUser() != null && player.getSelectedCardCode() != null) {
-                        if (verifyBingo(player, gameSession.getCalledNumbers())) {
-                            log.info("Found winner during manual check: {} in session {}", 
-                                     player.getUser().getFirstName(), sessionCode);
-                            
-                            // Announce the winner
-                            announceWinner(gameSession, player, gameSession.getCurrentCall());
-                            
-                            // Return the updated session response
-                            return buildGameSessionResponse(gameSession, null);
-                        }
+            return live.getActor().call(() -> {
+                GameSession gameSession = live.getGameSession();
+                
+                // Check if there's already a winner
+                if (gameSession.getWinningPlayer() != null) {
+                    log.info("Session {} already has a winner: {}", sessionCode,
+                             gameSession.getWinningPlayer().getUser().getFirstName());
+                    return responseFor(live, null);
+                }
+                
+                // Winners are detected incrementally as numbers are called; only candidates need checking
+                reloadPlayers(live);
+                for (int cardCode : winDetectorFor(live).getCandidates()) {
+                    PlayerGameSession player = findPlayerWithCard(gameSession, cardCode);
+                    if (player != null && player.getUser() != null) {
+                        log.info("Found winner during manual check: {} in session {}",
+                                 player.getUser().getFirstName(), sessionCode);
+                        
+                        // Announce the winner
+                        announceWinner(live, player, gameSession.getCurrentCall());
+                        
+                        // Return the updated session response
+                        return responseFor(live, null);
                     }
                 }
-            }
-            
-            log.info("No winner found in session: {}", sessionCode);
-            return buildGameSessionResponse(gameSession, null);
-            
+                
+                log.info("No winner found in session: {}", sessionCode);
+                return responseFor(live, null);
+            });
+        
         } catch (Exception e) {
             log.error("Error checking for winner in session {}: {}", sessionCode, e.getMessage(), e);
             throw e;
@@ -822,416 +559,617 @@ public class GameSessionServiceImpl implements GameSessionService, InitializingB
     public GameSessionResponse callBingo(BingoCallRequest request) {
         try {
             // Find the active game session
-            GameSession gameSession = findActiveGameSession();
-            if (gameSession == null) {
+            LiveSession live = findActiveGameSession();
+            if (live == null) {
                 throw new RuntimeException("No active game session found");
             }
             
             // Find the player
-            User user = userRepository.findByTelegramId(request.getTelegramId())
+            UserView user = userCache.find(request.getTelegramId())
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
-            PlayerGameSession player = playerGameSessionRepository
-                    .findByUserAndGameSession(user, gameSession)
-                    .orElseThrow(() -> new RuntimeException("Player not found in game session"));
-            
-            log.info("Player {} called BINGO in session {}", user.getTelegramId(), gameSession.getSessionCode());
-            
-            // Verify BINGO
-            if (verifyBingo(player, gameSession.getCalledNumbers())) {
-                // Valid BINGO - player wins
-                player.setIsWinner(true);
-                gameSession.setWinningPlayer(player);
-                gameSession.setGameActive(false);
-                
-                playerGameSessionRepository.save(player);
-                
-                // Clean up any duplicate references before saving
-                cleanupDuplicatePlayerSessions(gameSession);
-                
-                gameSessionRepository.save(gameSession);
-                
-                log.info("Player {} won BINGO in session {}", user.getTelegramId(), gameSession.getSessionCode());
-                
-                return buildGameSessionResponse(gameSession, user);
-            } else {
-                // False BINGO - player loses
-                player.setIsWinner(false);
-                playerGameSessionRepository.save(player);
-                
-                log.info("Player {} called false BINGO in session {}", user.getTelegramId(), gameSession.getSessionCode());
+            return live.getActor().call(() -> {
+                GameSession gameSession = live.getGameSession();
+                // The claim may reach a standby: check it against the calls and players the leader recorded
+                followSharedState(live);
+                PlayerGameSession player = findPlayerForUser(gameSession, user.getId());
+                if (player == null) {
+                    throw new RuntimeException("Player not found in game session");
+                }
                 
-                throw new RuntimeException("False BINGO! You lose the game.");
-            }
-            
+                // Verify BINGO
+                long verifyStarted = System.nanoTime();
+                boolean valid = verifyBingo(live.getDeck(), player, calledNumbersFor(live));
+                gameMetrics.bingoVerified(System.nanoTime() - verifyStarted, valid);
+                if (valid) {
+                    // Valid BINGO - player wins
+                    player.setIsWinner(true);
+                    gameSession.setWinningPlayer(player);
+                    gameSession.setGameActive(false);
+                    
+                    playerGameSessionRepository.save(player);
+                    sessionWriteBehind.saveNow(gameSession);
+                    gameMetrics.saved("player", gameSession.getPhase(), 1);
+                    markPlayersChanged(live);
+                    markSessionChanged(live);
+                    
+                    log.atInfo()
+                            .setMessage("BINGO won")
+                            .addKeyValue("session", gameSession.getSessionCode())
+                            .addKeyValue("telegramId", user.getTelegramId())
+                            .addKeyValue("card", player.getSelectedCardCode())
+                            .addKeyValue("calls", callSequenceFor(gameSession).size())
+                            .log();
+                    publishSnapshot(live);
+                    gameEventPublisher.winner(gameSession.getSessionCode(), user.getFirstName(), player.getSelectedCardCode());
+                    
+                    return responseFor(live, user.getTelegramId());
+                } else {
+                    // False BINGO - player loses
+                    player.setIsWinner(false);
+                    playerGameSessionRepository.save(player);
+                    gameMetrics.saved("player", gameSession.getPhase(), 1);
+                    markPlayersChanged(live);
+                    
+                    log.atInfo()
+                            .setMessage("False BINGO")
+                            .addKeyValue("session", gameSession.getSessionCode())
+                            .addKeyValue("telegramId", user.getTelegramId())
+                            .addKeyValue("card", player.getSelectedCardCode())
+                            .addKeyValue("calls", callSequenceFor(gameSession).size())
+                            .log();
+                    publishSnapshot(live);
+                    
+                    throw new RuntimeException("False BINGO! You lose the game.");
+                }
+            });
+        
         } catch (Exception e) {
             log.error("Error in callBingo for user {}: {}", request.getTelegramId(), e.getMessage(), e);
             throw e;
         }
     }
 
-    private void restartGameSession(String sessionCode) {
-        try {
-            log.info("Restarting game session: {}", sessionCode);
-            
-            // Remove the old session
-            activeSessions.remove(sessionCode);
-            sessionSelectedCardCodes.remove(sessionCode);
-            sessionCalledNumbersOrdered.remove(sessionCode);
-            
-            // Create a new session
-            GameSession newSession = getOrCreateActiveSession();
-            
-            log.info("Restarted game session: {} -> {}", sessionCode, newSession.getSessionCode());
-            
-        } catch (Exception e) {
-            log.error("Error restarting game session {}: {}", sessionCode, e.getMessage(), e);
-        }
-    }
-
     @Override
     @Async
     public void startNumberCalling(String sessionCode) {
         try {
-            log.info("Starting number calling for session: {}", sessionCode);
-            
-            // Schedule number calling every 3 seconds
-            ScheduledFuture<?> numberCalling = scheduler.scheduleAtFixedRate(() -> {
-                try {
-                    callNextNumber(sessionCode);
-                } catch (Exception e) {
-                    log.error("Error in number calling scheduler for session {}: {}", sessionCode, e.getMessage(), e);
-                }
-            }, 0, 3, TimeUnit.SECONDS);
-            
-            scheduledCallingTasks.put(sessionCode, numberCalling);
-            
+            LiveSession live = activeSessions.get(sessionCode);
+            if (live == null) {
+                log.warn("Cannot start number calling, session not found: {}", sessionCode);
+                return;
+            }
+            live.getActor().execute(() -> startNumberCalling(live));
+        
         } catch (Exception e) {
             log.error("Error starting number calling for session {}: {}", sessionCode, e.getMessage(), e);
         }
     }
 
+    private void startNumberCalling(LiveSession live) {
+        log.info("Starting number calling for session: {}", live.getSessionCode());
+        
+        ScheduledFuture<?> numberCalling = scheduler.scheduleAtFixedRate(
+                () -> live.getActor().execute(() -> callNextNumber(live)),
+                0, callIntervalMs, TimeUnit.MILLISECONDS);
+        
+        live.setCallingTask(numberCalling);
+    }
+
     @Override
     public void endGame(String sessionCode) {
         try {
             log.info("Ending game for session: {}", sessionCode);
             
-            GameSession gameSession = activeSessions.get(sessionCode);
-            if (gameSession != null) {
-                gameSession.setGameActive(false);
-                gameSession.setPhase("ended");
-                
-                // Clean up any duplicate references before saving
-                cleanupDuplicatePlayerSessions(gameSession);
-                
-                gameSessionRepository.save(gameSession);
-            }
-            
-            // Cancel number calling task
-            ScheduledFuture<?> numberCallingTask = scheduledCallingTasks.remove(sessionCode);
-            if (numberCallingTask != null) {
-                numberCallingTask.cancel(true);
-                log.debug("Cancelled number calling task for session: {}", sessionCode);
+            LiveSession live = activeSessions.get(sessionCode);
+            if (live != null) {
+                live.getActor().call(() -> {
+                    endGame(live);
+                    return null;
+                });
             }
             
-            // Cancel countdown task
-            ScheduledFuture<?> countdownTask = sessionCountdownTasks.remove(sessionCode);
-            if (countdownTask != null) {
-                countdownTask.cancel(true);
-                log.debug("Cancelled countdown task for session: {}", sessionCode);
-            }
-            
-            // Clear session data
-            sessionSelectedCardCodes.remove(sessionCode);
-            sessionCalledNumbersOrdered.remove(sessionCode);
-            
             log.info("Game ended for session: {}", sessionCode);
             
             // Automatically create a new game session for the next round
             try {
-                GameSession newSession = getOrCreateActiveSession();
-                if ("cardSelection".equals(newSession.getPhase())) {
-                    ensureCountdownScheduled(newSession);
-                    log.info("Automatically created new game session: {} and started countdown", newSession.getSessionCode());
-                }
+                LiveSession newSession = getOrCreateActiveSession();
+                ensureCountdownScheduled(newSession);
+                log.info("Automatically created new game session: {} and started countdown", newSession.getSessionCode());
             } catch (Exception e) {
                 log.error("Error creating new game session after ending game: {}", e.getMessage(), e);
             }
-            
+        
         } catch (Exception e) {
             log.error("Error ending game for session {}: {}", sessionCode, e.getMessage(), e);
         }
     }
 
-    private GameSession getOrCreateActiveSession() {
-        try {
-            // First try to find an existing active session
-            GameSession existingSession = findActiveGameSession();
-            if (existingSession != null) {
-                log.debug("Found existing active session: {}", existingSession.getSessionCode());
-                return existingSession;
-            }
-            
-            // Create new session if none exists
-            log.info("No active session found, creating new one");
-            
-            GameSession newSession = GameSession.builder()
-                    .sessionCode("GAME_" + System.currentTimeMillis())
-                    .status(GameStatus.ONGOING)
-                    .phase("cardSelection")
-                    .countdown(30)
-                    .gameActive(false)
-                    .playerSessions(new ArrayList<>())
-                    .calledNumbers(new HashSet<>())
-                    .build();
-            
-            GameSession savedSession = gameSessionRepository.save(newSession);
-            activeSessions.put(savedSession.getSessionCode(), savedSession);
-            
-            // Initialize session data
-            sessionSelectedCardCodes.putIfAbsent(savedSession.getSessionCode(), ConcurrentHashMap.newKeySet());
-            sessionCalledNumbersOrdered.putIfAbsent(savedSession.getSessionCode(), Collections.synchronizedList(new ArrayList<>()));
-            
-            log.info("Created new game session: {}", savedSession.getSessionCode());
-            
-            return savedSession;
-            
-        } catch (Exception e) {
-            log.error("Error getting or creating active session: {}", e.getMessage(), e);
-            
-            // Return a minimal session to prevent complete failure
-            return GameSession.builder()
-                    .sessionCode("ERROR_" + System.currentTimeMillis())
-                    .status(GameStatus.ONGOING)
-                    .phase("error")
-                    .countdown(0)
-                    .gameActive(false)
-                    .playerSessions(new ArrayList<>())
-                    .calledNumbers(new HashSet<>())
-                    .build();
+    private void endGame(LiveSession live) {
+        GameSession gameSession = live.getGameSession();
+        gameSession.setGameActive(false);
+        gameSession.setPhase("ended");
+        live.setEnded(true);
+        
+        sessionWriteBehind.saveNow(gameSession);
+        markSessionChanged(live);
+        publishSnapshot(live);
+        gameEventPublisher.phaseChanged(live.getSessionCode(), "ended");
+        
+        cancelTimers(live);
+        sessionLeader.resign(live.getSessionCode());
+    }
+
+    private void cancelTimers(LiveSession live) {
+        stopNumberCalling(live);
+        if (live.getLeaseTask() != null) {
+            live.getLeaseTask().cancel(false);
+            live.setLeaseTask(null);
         }
+        if (live.getCountdownTask() != null) {
+            live.getCountdownTask().cancel(false);
+            live.setCountdownTask(null);
+            log.debug("Cancelled countdown task for session: {}", live.getSessionCode());
+        }
+        live.setCountdownDeadline(null);
     }
 
-    // Initialize game session when server starts
-    @Override
-    public void afterPropertiesSet() throws Exception {
-        try {
-            log.info("Initializing GameSessionService");
-            
-            // Create initial game session
-            GameSession initialSession = getOrCreateActiveSession();
-            
-            // Clean up any existing sessions to prevent duplicate entity issues
-            cleanupAllActiveSessions();
-            
-                    // Schedule periodic cleanup to prevent duplicate entity issues
-        scheduler.scheduleAtFixedRate(this::cleanupAllActiveSessions, 5, 5, TimeUnit.MINUTES);
+    private void stopNumberCalling(LiveSession live) {
+        if (live.getCallingTask() != null) {
+            live.getCallingTask().cancel(false);
+            live.setCallingTask(null);
+            log.debug("Cancelled number calling task for session: {}", live.getSessionCode());
+        }
+    }
+
+    private LiveSession getOrCreateActiveSession() {
+        LiveSession existingSession = findActiveGameSession();
+        return existingSession != null ? existingSession : createActiveSession();
+    }
+
+    private synchronized LiveSession createActiveSession() {
+        // Another caller may have created it while we waited for the lock
+        LiveSession existingSession = findActiveGameSession();
+        if (existingSession != null) {
+            log.debug("Found existing active session: {}", existingSession.getSessionCode());
+            return existingSession;
+        }
         
-        // Schedule periodic cleanup of orphaned card codes
-        scheduler.scheduleAtFixedRate(this::cleanupAllOrphanedCardCodes, 2, 2, TimeUnit.MINUTES);
-            
-            // Automatically start the countdown when server starts
-            // This ensures the game begins automatically without waiting for players
-            if ("cardSelection".equals(initialSession.getPhase())) {
-                ensureCountdownScheduled(initialSession);
-                log.info("Automatically started countdown for initial game session: {}", initialSession.getSessionCode());
+        // With shared state another node may already be running the current game; join it instead of starting a rival one
+        if (sessionStateStore.isShared()) {
+            LiveSession adopted = adoptRunningSession();
+            if (adopted != null) {
+                return adopted;
             }
-            
-            log.info("GameSessionService initialized with session: {} and countdown started", initialSession.getSessionCode());
-            
-        } catch (Exception e) {
-            log.error("Error initializing GameSessionService: {}", e.getMessage(), e);
-            throw e;
         }
+        
+        // Create new session if none exists
+        log.info("No active session found, creating new one");
+        
+        // A new game is where a deck rotated on another node takes effect here
+        long deckVersion = deckService.refresh();
+        GameSession newSession = GameSession.builder()
+                .sessionCode("GAME_" + System.currentTimeMillis())
+                .deckVersion(deckVersion)
+                .status(GameStatus.ONGOING)
+                .phase("cardSelection")
+                .countdown(countdownSeconds)
+                .gameActive(false)
+                .playerSessions(new ArrayList<>())
+                .calledNumbers(new CopyOnWriteArrayList<>())
+                .build();
+        
+        GameSession savedSession = gameSessionRepository.save(newSession);
+        gameMetrics.saved("game_session", savedSession.getPhase(), 1);
+        retireEndedSessions();
+        LiveSession live = liveSession(savedSession);
+        live.setLeaseToken(sessionLeader.lead(live.getSessionCode()));
+        // Nothing else can see the session yet, so its first snapshot is built here rather than on its loop
+        publishSnapshot(live);
+        activeSessions.put(savedSession.getSessionCode(), live);
+        ensureCountdownScheduled(live);
+        ensureLeaseRenewal(live);
+        
+        log.info("Created new game session: {}", savedSession.getSessionCode());
+        gameEventPublisher.sessionCreated(savedSession.getSessionCode(), savedSession.getPhase(), savedSession.getCountdown());
+        
+        return live;
     }
-    
+
     /**
-     * Force a complete resync of the card tracking state for a session.
-     * This method rebuilds the selectedCardCodes set from the actual player data.
+     * Load the newest game that is still running according to the database, if any, and serve it
+     * from this node too. Whether this node drives it is decided by the session's lease.
      */
-    private void forceCardTrackingResync(GameSession gameSession) {
-        try {
-            List<PlayerGameSession> playerSessions = gameSession.getPlayerSessions();
-            if (playerSessions == null) {
-                playerSessions = new ArrayList<>();
-            }
-            
-            // Rebuild the selected card codes set from actual player data
-            Set<Integer> actualSelectedCards = new HashSet<>();
-            for (PlayerGameSession player : playerSessions) {
-                if (player != null && player.getSelectedCardCode() != null) {
-                    actualSelectedCards.add(player.getSelectedCardCode());
-                }
-            }
-            
-            // Update the session selected card codes
-            sessionSelectedCardCodes.put(gameSession.getSessionCode(), actualSelectedCards);
-            
-            log.info("Session {} - Force resync completed. Players: {}, Cards: {}", 
-                    gameSession.getSessionCode(), playerSessions.size(), actualSelectedCards.size());
-            
-        } catch (Exception e) {
-            log.error("Error during force resync for session: {}", 
-                     gameSession.getSessionCode(), e);
+    private LiveSession adoptRunningSession() {
+        Optional<String> newest = gameSessionRepository
+                .findFirstByStatusAndPhaseNotOrderByIdDesc(GameStatus.ONGOING, "ended")
+                .map(GameSession::getSessionCode);
+        if (newest.isEmpty()) {
+            return null;
+        }
+        long sessionVersion = sessionStateStore.sessionVersion(newest.get());
+        long playersVersion = sessionStateStore.playersVersion(newest.get());
+        Optional<GameSession> running = gameSessionRepository.findBySessionCodeWithPlayers(newest.get());
+        if (running.isEmpty()) {
+            return null;
+        }
+        GameSession gameSession = running.get();
+        gameSession.setPlayerSessions(new ArrayList<>(gameSession.getPlayerSessions()));
+        gameSession.setCalledNumbers(new CopyOnWriteArrayList<>());
+        
+        retireEndedSessions();
+        LiveSession live = liveSession(gameSession);
+        live.setSessionVersion(sessionVersion);
+        live.setPlayersVersion(playersVersion);
+        live.setLeaseToken(sessionLeader.lead(live.getSessionCode()));
+        publishSnapshot(live);
+        activeSessions.put(gameSession.getSessionCode(), live);
+        ensureCountdownScheduled(live);
+        ensureLeaseRenewal(live);
+        if (live.getLeaseToken() != SessionStateStore.NO_LEASE) {
+            live.getActor().execute(() -> resumeAsLeader(live));
         }
+        
+        log.info("Joined running game session {} in phase {} ({})", gameSession.getSessionCode(), gameSession.getPhase(),
+                live.getLeaseToken() != SessionStateStore.NO_LEASE ? "leader" : "standby");
+        return live;
+    }
+
+    // Games stored before decks were versioned are played with the active deck
+    private LiveSession liveSession(GameSession gameSession) {
+        long deckVersion = gameSession.getDeckVersion() != null ? gameSession.getDeckVersion() : deckService.getVersion();
+        return new LiveSession(gameSession, deckVersion, deckService.getDeck(deckVersion));
+    }
+
+    private void ensureLeaseRenewal(LiveSession live) {
+        long period = sessionLeader.getRenewInterval().toMillis();
+        live.setLeaseTask(scheduler.scheduleAtFixedRate(
+                () -> live.getActor().execute(() -> renewLease(live)),
+                period, period, TimeUnit.MILLISECONDS));
     }
-    
+
     /**
-     * Log all players currently in the session for debugging purposes.
+     * Keep this node's lease on the session. A node that loses it stops calling numbers; a node
+     * that gains it (the leader died or stalled) picks the session up where it was left. Each
+     * tick first catches this node up with what the rest of the cluster recorded, so a session
+     * ended elsewhere is not taken over.
      */
-    private void logAllPlayersInSession(GameSession gameSession, String context) {
-        try {
-            List<PlayerGameSession> playerSessions = gameSession.getPlayerSessions();
-            
-            if (playerSessions == null || playerSessions.isEmpty()) {
-                log.info("Session {} - No players in session ({})", gameSession.getSessionCode(), context);
-                return;
-            }
-            
-            log.info("Session {} - All Players in Session ({}):", gameSession.getSessionCode(), context);
-            
-            for (PlayerGameSession player : playerSessions) {
-                if (player != null && player.getUser() != null) {
-                    String cardInfo = player.getSelectedCardCode() != null ? 
-                        "Card: " + player.getSelectedCardCode() : "No card selected";
-                    
-                    log.info("  - Player: {} (Telegram: {}, ID: {}) - {}", 
-                            player.getUser().getFirstName(),
-                            player.getUser().getTelegramId(),
-                            player.getId(),
-                            cardInfo);
-                } else {
-                    log.warn("  - Invalid player session: {}", player);
-                }
-            }
-            
-        } catch (Exception e) {
-            log.error("Error logging all players in session: {}", 
-                     gameSession.getSessionCode(), e);
+    private void renewLease(LiveSession live) {
+        followSharedState(live);
+        if (live.isEnded()) {
+            return;
+        }
+        long previous = live.getLeaseToken();
+        long token = sessionLeader.lead(live.getSessionCode());
+        live.setLeaseToken(token);
+        if (token != previous && token != SessionStateStore.NO_LEASE) {
+            log.info("Took the lease on session {} with token {}", live.getSessionCode(), token);
+            resumeAsLeader(live);
+            return;
+        }
+        if (token != previous) {
+            log.warn("Lost the lease on session {}; another node drives it now", live.getSessionCode());
+            stopNumberCalling(live);
         }
     }
-    
+
     /**
-     * Log the current state of card tracking for debugging purposes.
+     * With shared state only the lease holder calls numbers and opens the game room, while players
+     * join, call BINGO and end games through any node. Catch this node's copy of the session up
+     * with what the others recorded. Each check starts from a version in the store: the players
+     * are reloaded only when theirs moved, and the session row (a winner, the end of the game) only
+     * when the session's moved. A standby also reads the calls past the ones it knows, which opens
+     * the game room on the first one; the leader made those calls itself and skips that read.
+     * State only moves forward here, so changes this node has not flushed yet are kept. A session
+     * that ended elsewhere is retired and the next game is joined.
      */
-    private void logCardTrackingState(GameSession gameSession, String context) {
-        try {
-            Set<Integer> selectedCardCodes = sessionSelectedCardCodes.getOrDefault(gameSession.getSessionCode(), new HashSet<>());
-            List<PlayerGameSession> playerSessions = gameSession.getPlayerSessions();
-            
-            if (playerSessions == null) {
-                playerSessions = new ArrayList<>();
+    private void followSharedState(LiveSession live) {
+        if (!sessionStateStore.isShared() || live.isEnded()) {
+            return;
+        }
+        GameSession gameSession = live.getGameSession();
+        String sessionCode = live.getSessionCode();
+        boolean leader = live.getLeaseToken() != SessionStateStore.NO_LEASE;
+        
+        // Read the session version before the players: a winner recorded by then is among the players loaded
+        long sessionVersion = sessionStateStore.sessionVersion(sessionCode);
+        boolean changed = reloadPlayers(live);
+        GameSession persisted = null;
+        long knownSessionVersion = live.getSessionVersion();
+        if (sessionVersion != knownSessionVersion) {
+            Optional<GameSession> found = gameSessionRepository.findBySessionCode(sessionCode);
+            if (found.isPresent()) {
+                persisted = found.get();
+                live.setSessionVersion(sessionVersion);
             }
-            
-            // Get actual cards that players have
-            Set<Integer> actualSelectedCards = new HashSet<>();
-            Map<Integer, String> cardOwners = new HashMap<>();
-            
-            for (PlayerGameSession player : playerSessions) {
-                if (player != null && player.getSelectedCardCode() != null) {
-                    actualSelectedCards.add(player.getSelectedCardCode());
-                    String ownerInfo = player.getUser() != null ? 
-                        "Telegram:" + player.getUser().getTelegramId() : "ID:" + player.getId();
-                    cardOwners.put(player.getSelectedCardCode(), ownerInfo);
-                }
+        }
+        
+        // Calls are only ever appended, so anything past what this node knows is new
+        List<Integer> sequence = gameSession.getCalledNumbers();
+        if (sequence == null) {
+            sequence = new CopyOnWriteArrayList<>();
+            gameSession.setCalledNumbers(sequence);
+        }
+        int known = sequence.size();
+        List<Integer> newCalls = leader ? List.of() : sessionStateStore.callsSince(sessionCode, known);
+        
+        boolean opened = !leader && "cardSelection".equals(gameSession.getPhase())
+                && (!newCalls.isEmpty() || persisted != null && "gameRoom".equals(persisted.getPhase()));
+        if (opened) {
+            gameSession.setPhase("gameRoom");
+            gameSession.setGameActive(true);
+            gameSession.setCountdown(0);
+            if (live.getCountdownTask() != null) {
+                live.getCountdownTask().cancel(false);
+                live.setCountdownTask(null);
+            }
+            live.setCountdownDeadline(null);
+            changed = true;
+        }
+        
+        for (int number : newCalls) {
+            sequence.add(number);
+            if (live.getCalledNumbers() != null) {
+                live.getCalledNumbers().add(number);
             }
-            
-            // Find orphaned cards
-            Set<Integer> orphanedCards = new HashSet<>(selectedCardCodes);
-            orphanedCards.removeAll(actualSelectedCards);
-            
-            log.info("Session {} - Card Tracking State ({}) - Players: {}, Tracked Cards: {}, Actual Cards: {}, Orphaned: {}", 
-                    gameSession.getSessionCode(), context, playerSessions.size(), 
-                    selectedCardCodes.size(), actualSelectedCards.size(), orphanedCards.size());
-            
-            if (!orphanedCards.isEmpty()) {
-                log.warn("Session {} - Orphaned cards: {}", gameSession.getSessionCode(), orphanedCards);
+            if (live.getWinDetector() != null) {
+                live.getWinDetector().onNumberCalled(number);
             }
-            
-            // Log individual card ownership
-            for (Integer cardCode : actualSelectedCards) {
-                String owner = cardOwners.get(cardCode);
-                log.debug("Session {} - Card {} owned by: {}", gameSession.getSessionCode(), cardCode, owner);
+        }
+        if (!newCalls.isEmpty()) {
+            gameSession.setCurrentCall(newCalls.get(newCalls.size() - 1));
+            changed = true;
+        }
+        
+        PlayerGameSession winner = null;
+        if (persisted != null && gameSession.getWinningPlayer() == null && persisted.getWinningPlayer() != null) {
+            Long winnerId = persisted.getWinningPlayer().getId();
+            for (PlayerGameSession player : gameSession.getPlayerSessions()) {
+                if (player != null && winnerId.equals(player.getId())) {
+                    winner = player;
+                }
             }
-            
-        } catch (Exception e) {
-            log.error("Error logging card tracking state for session: {}", 
-                     gameSession.getSessionCode(), e);
+            if (winner != null) {
+                gameSession.setWinningPlayer(winner);
+                gameSession.setGameActive(false);
+                stopNumberCalling(live);
+                changed = true;
+            } else {
+                // The winner is not among the players this node loaded; look again on the next check
+                live.setSessionVersion(knownSessionVersion);
+            }
+        }
+        
+        boolean ended = persisted != null && "ended".equals(persisted.getPhase());
+        if (ended) {
+            gameSession.setPhase("ended");
+            gameSession.setGameActive(false);
+            live.setEnded(true);
+            changed = true;
+        }
+        
+        if (!changed) {
+            return;
+        }
+        publishSnapshot(live);
+        if (opened) {
+            gameEventPublisher.phaseChanged(sessionCode, "gameRoom");
+        }
+        for (int i = 0; i < newCalls.size(); i++) {
+            int number = newCalls.get(i);
+            gameEventPublisher.numberCalled(sessionCode, number, SessionSnapshotBuilder.letterPrefix(number), known + i + 1);
+        }
+        if (winner != null && winner.getUser() != null) {
+            gameEventPublisher.winner(sessionCode, winner.getUser().getFirstName(), winner.getSelectedCardCode());
+        }
+        if (ended) {
+            log.info("Session {} was ended on another node; joining the next game", sessionCode);
+            gameEventPublisher.phaseChanged(sessionCode, "ended");
+            cancelTimers(live);
+            sessionLeader.resign(sessionCode);
+            joinNextGame(sessionCode);
         }
     }
-    
+
     /**
-     * Clean up orphaned card codes across all active sessions.
-     * This method is scheduled to run periodically.
+     * Move on from a session another node ended. That node creates the next game right away, so
+     * this one waits a renew interval and then adopts it rather than starting a rival game.
      */
-    private void cleanupAllOrphanedCardCodes() {
-        try {
-            for (GameSession session : activeSessions.values()) {
-                if (session != null) {
-                    cleanupOrphanedCardCodes(session);
-                }
+    private void joinNextGame(String endedSessionCode) {
+        startNextGame(endedSessionCode, sessionLeader.getRenewInterval().toMillis());
+    }
+
+    /**
+     * Create the game that follows an ended one, or adopt it if another node already created it.
+     * This touches the database, so it runs on its own thread, never on a session loop or the timer.
+     */
+    private void startNextGame(String endedSessionCode, long delayMs) {
+        scheduler.schedule(() -> Thread.ofVirtual().name("next-game-" + endedSessionCode).start(() -> {
+            try {
+                LiveSession next = getOrCreateActiveSession();
+                ensureCountdownScheduled(next);
+                log.info("Next game after session {}: {}", endedSessionCode, next.getSessionCode());
+            } catch (Exception e) {
+                log.error("Error starting the next game after session {}: {}", endedSessionCode, e.getMessage(), e);
             }
-        } catch (Exception e) {
-            log.error("Error during periodic cleanup of orphaned card codes", e);
+        }), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Continue a session as its leader. With shared state the previous leader may have been
+     * another node, so the phase and players are reloaded and the calls replayed from the call
+     * stream first; number calling then resumes on the usual cadence.
+     */
+    private void resumeAsLeader(LiveSession live) {
+        GameSession gameSession = live.getGameSession();
+        String sessionCode = live.getSessionCode();
+        if (sessionStateStore.isShared()) {
+            long sessionVersion = sessionStateStore.sessionVersion(sessionCode);
+            long playersVersion = sessionStateStore.playersVersion(sessionCode);
+            gameSessionRepository.findBySessionCodeWithPlayers(sessionCode).ifPresent(persisted -> {
+                gameSession.setPhase(persisted.getPhase());
+                gameSession.setGameActive(persisted.getGameActive());
+                gameSession.setCurrentCall(persisted.getCurrentCall());
+                gameSession.setPlayerSessions(new ArrayList<>(persisted.getPlayerSessions()));
+                live.setSessionVersion(sessionVersion);
+                live.setPlayersVersion(playersVersion);
+            });
+            List<Integer> calls = sessionStateStore.calls(sessionCode);
+            if (!calls.isEmpty() && "cardSelection".equals(gameSession.getPhase())) {
+                // Numbers are only called in the game room; the phase change may not have been flushed yet
+                gameSession.setPhase("gameRoom");
+                gameSession.setGameActive(true);
+            }
+            gameSession.setCalledNumbers(new CopyOnWriteArrayList<>());
+            live.setCalledNumbers(null);
+            live.setWinDetector(null);
+            callSequenceFor(gameSession);
+            publishSnapshot(live);
+        }
+        
+        if ("ended".equals(gameSession.getPhase())) {
+            live.setEnded(true);
+            cancelTimers(live);
+            sessionLeader.resign(sessionCode);
+            if (sessionStateStore.isShared()) {
+                joinNextGame(sessionCode);
+            }
+        } else if ("gameRoom".equals(gameSession.getPhase()) && Boolean.TRUE.equals(gameSession.getGameActive())
+                && live.getCallingTask() == null) {
+            log.info("Resuming number calling for session {} after {} calls", sessionCode, callSequenceFor(gameSession).size());
+            startNumberCalling(live);
         }
     }
-    
+
     /**
-     * Clean up all active sessions to prevent duplicate entity issues.
-     * This method should be called periodically or on startup.
+     * Drop ended sessions except the most recent one, which clients may still be reading
+     * for the winner, and stop their loops.
      */
-    private void cleanupAllActiveSessions() {
+    private void retireEndedSessions() {
+        LiveSession latest = null;
+        for (LiveSession live : activeSessions.values()) {
+            if (live.isEnded() && (latest == null || live.getGameSession().getId() > latest.getGameSession().getId())) {
+                latest = live;
+            }
+        }
+        for (LiveSession live : new ArrayList<>(activeSessions.values())) {
+            if (live.isEnded() && live != latest) {
+                activeSessions.remove(live.getSessionCode());
+                live.getActor().stop();
+                sessionStateStore.clear(live.getSessionCode());
+                log.debug("Retired ended session {}", live.getSessionCode());
+            }
+        }
+    }
+
+    // Initialize game session when server starts
+    @Override
+    public void afterPropertiesSet() throws Exception {
         try {
-            log.info("Starting cleanup of all active sessions");
+            log.info("Initializing GameSessionService");
+            registerGauges();
+            dropGlobalCallOrderConstraint();
             
-            // Force refresh all sessions for data consistency
-            forceRefreshAllActiveSessions();
+            // Create initial game session
+            LiveSession initialSession = getOrCreateActiveSession();
             
-            for (GameSession session : activeSessions.values()) {
-                if (session != null) {
-                    cleanupDuplicatePlayerSessions(session);
-                }
-            }
-            log.info("Completed cleanup of all active sessions");
+            // Automatically start the countdown when server starts
+            // This ensures the game begins automatically without waiting for players
+            ensureCountdownScheduled(initialSession);
+            log.info("GameSessionService initialized with session: {} and countdown started", initialSession.getSessionCode());
+        
         } catch (Exception e) {
-            log.error("Error cleaning up active sessions: {}", e.getMessage(), e);
+            log.error("Error initializing GameSessionService: {}", e.getMessage(), e);
+            throw e;
         }
     }
 
-    private GameSession findActiveGameSession() {
+    private void dropGlobalCallOrderConstraint() {
         try {
-            // Look for a session that's not ended
-            for (GameSession session : activeSessions.values()) {
-                if (session != null && session.getSessionCode() != null && 
-                    !"ended".equals(session.getPhase()) && 
-                    !"error".equals(session.getPhase())) {
-                    log.debug("Found active game session: {}", session.getSessionCode());
-                    return session;
+            if (calledNumberRepository.dropGlobalCallOrderConstraint() > 0) {
+                log.info("Dropped the unique constraint on called_numbers.call_order; call orders are now unique per game");
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not check called_numbers for the old call_order constraint: {}", e.getMessage());
+        }
+    }
+
+    private void registerGauges() {
+        gameMetrics.gauge("bingo.sessions.active", "Game sessions that have not ended", activeSessions,
+                sessions -> sessions.values().stream().filter(live -> !live.isEnded()).count());
+        gameMetrics.gauge("bingo.sessions.players", "Players in game sessions that have not ended", activeSessions,
+                sessions -> sessions.values().stream()
+                        .filter(live -> !live.isEnded() && live.getSnapshot() != null)
+                        .mapToInt(live -> live.getSnapshot().getResponse().getPlayerCount() != null
+                                ? live.getSnapshot().getResponse().getPlayerCount() : 0)
+                        .sum());
+        gameMetrics.gauge("bingo.sessions.queued.commands", "Commands waiting on the session loops", activeSessions,
+                sessions -> sessions.values().stream().mapToInt(live -> live.getActor().pending()).sum());
+        gameMetrics.gauge("bingo.scheduler.queue", "Timers queued on the session scheduler", scheduler,
+                executor -> executor.getQueue().size());
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        for (LiveSession live : activeSessions.values()) {
+            live.getActor().stop();
+            // Hand the session over now rather than when the lease runs out
+            if (!live.isEnded() && live.getLeaseToken() != SessionStateStore.NO_LEASE) {
+                sessionLeader.resign(live.getSessionCode());
+            }
+        }
+    }
+
+    /**
+     * Dump every player in the session to the {@code players} diagnostics category, when that is
+     * switched on and not already dumped within its sampling interval.
+     */
+    private void logAllPlayersInSession(GameSession gameSession, String context) {
+        if (!diagnosticLog.sample(DiagnosticLog.PLAYERS)) {
+            return;
+        }
+        List<String> players = new ArrayList<>();
+        if (gameSession.getPlayerSessions() != null) {
+            for (PlayerGameSession player : gameSession.getPlayerSessions()) {
+                if (player != null && player.getUser() != null) {
+                    players.add(player.getUser().getTelegramId() + ":"
+                            + (player.getSelectedCardCode() != null ? player.getSelectedCardCode() : "-"));
                 }
             }
-            
-            log.debug("No active game session found");
-            return null;
-            
-        } catch (Exception e) {
-            log.error("Error finding active game session: {}", e.getMessage(), e);
-            return null;
         }
+        diagnosticLog.logger(DiagnosticLog.PLAYERS).atDebug()
+                .setMessage("Players in session")
+                .addKeyValue("session", gameSession.getSessionCode())
+                .addKeyValue("context", context)
+                .addKeyValue("count", players.size())
+                .addKeyValue("players", String.join(",", players))
+                .log();
     }
 
-    private void ensureCountdownScheduled(GameSession gameSession) {
-        try {
-            if (gameSession == null || gameSession.getSessionCode() == null) {
-                log.warn("Cannot schedule countdown: gameSession={}, sessionCode={}", 
-                        gameSession != null ? "exists" : "null", 
-                        gameSession != null ? gameSession.getSessionCode() : "null");
+    private LiveSession findActiveGameSession() {
+        // Look for a session that's not ended
+        for (LiveSession live : activeSessions.values()) {
+            if (!live.isEnded()) {
+                log.debug("Found active game session: {}", live.getSessionCode());
+                return live;
+            }
+        }
+        
+        log.debug("No active game session found");
+        return null;
+    }
+
+    private void ensureCountdownScheduled(LiveSession live) {
+        live.getActor().execute(() -> {
+            String sessionCode = live.getSessionCode();
+            GameSession gameSession = live.getGameSession();
+            if (!"cardSelection".equals(gameSession.getPhase())) {
                 return;
             }
             
-            String sessionCode = gameSession.getSessionCode();
-            
             // Check if countdown is already scheduled
-            if (sessionCountdownTasks.containsKey(sessionCode)) {
+            if (live.getCountdownTask() != null) {
                 log.debug("Countdown already scheduled for session: {}", sessionCode);
                 return;
             }
@@ -1239,79 +1177,110 @@ public class GameSessionServiceImpl implements GameSessionService, InitializingB
             log.info("Scheduling countdown for session: {} with {} seconds", sessionCode, gameSession.getCountdown());
             
             // Schedule countdown task
-            ScheduledFuture<?> countdown = scheduler.scheduleAtFixedRate(() -> {
-                try {
-                    updateCountdown(sessionCode);
-                } catch (Exception e) {
-                    log.error("Error in countdown scheduler for session {}: {}", sessionCode, e.getMessage(), e);
-                }
-            }, 0, 1, TimeUnit.SECONDS);
-            
-            sessionCountdownTasks.put(sessionCode, countdown);
-            
-        } catch (Exception e) {
-            log.error("Error ensuring countdown scheduled for session {}: {}", 
-                     gameSession != null ? gameSession.getSessionCode() : "null", e.getMessage(), e);
-        }
+            if (live.getCountdownDeadline() == null) {
+                live.setCountdownDeadline(countdownDeadline(gameSession));
+            }
+            live.setCountdownTask(scheduler.scheduleAtFixedRate(() -> {
+                long firedAt = System.nanoTime();
+                live.getActor().execute(() -> {
+                    gameMetrics.countdownTick(System.nanoTime() - firedAt);
+                    updateCountdown(live);
+                });
+            }, 0, 1, TimeUnit.SECONDS));
+        });
     }
 
-    private void updateCountdown(String sessionCode) {
-        try {
-            GameSession session = activeSessions.get(sessionCode);
-            if (session == null) {
-                log.warn("Session not found for countdown update: {}", sessionCode);
-                return;
+    private void updateCountdown(LiveSession live) {
+        String sessionCode = live.getSessionCode();
+        GameSession session = live.getGameSession();
+        if (!"cardSelection".equals(session.getPhase())) {
+            // If not in cardSelection phase, cancel the countdown task
+            if (live.getCountdownTask() != null) {
+                live.getCountdownTask().cancel(false);
+                live.setCountdownTask(null);
+                log.debug("Cancelled countdown task for session {} as phase is not cardSelection", sessionCode);
             }
-            if (!"cardSelection".equals(session.getPhase())) {
-                // If not in cardSelection phase, cancel the countdown task
-                ScheduledFuture<?> task = sessionCountdownTasks.remove(sessionCode);
-                if (task != null) {
-                    task.cancel(true);
-                    log.debug("Cancelled countdown task for session {} as phase is not cardSelection", sessionCode);
-                }
-                return;
-            }
-
-            Integer cd = session.getCountdown();
-            if (cd == null) cd = 30;
-            if (cd <= 0) {
-                session.setPhase("gameRoom");
-                session.setGameActive(true);
-                session.setCountdown(0);
-                
-                // Clean up any duplicate references before saving
-                cleanupDuplicatePlayerSessions(session);
-                
-                gameSessionRepository.save(session);
-                ScheduledFuture<?> t = sessionCountdownTasks.remove(sessionCode);
-                if (t != null) t.cancel(true);
-                startNumberCalling(sessionCode);
-            } else {
-                session.setCountdown(cd - 1);
-                
-                // Clean up any duplicate references before saving
-                cleanupDuplicatePlayerSessions(session);
-                
-                gameSessionRepository.save(session);
+            return;
+        }
+        
+        // The countdown lives in memory as a deadline; only the phase transition is persisted
+        if (live.getCountdownDeadline() == null) {
+            live.setCountdownDeadline(countdownDeadline(session));
+        }
+        long deadline = live.getCountdownDeadline();
+        int remaining = (int) Math.max(0, (deadline - System.currentTimeMillis() + 999) / 1000);
+        if (remaining <= 0 && live.getLeaseToken() == SessionStateStore.NO_LEASE) {
+            // Only the leader opens the game room; a standby follows it on its next lease tick
+            return;
+        }
+        if (remaining <= 0) {
+            session.setPhase("gameRoom");
+            session.setGameActive(true);
+            session.setCountdown(0);
+            live.setCountdownDeadline(null);
+            sessionWriteBehind.enqueue(persistentCopy(session));
+            
+            if (live.getCountdownTask() != null) {
+                live.getCountdownTask().cancel(false);
+                live.setCountdownTask(null);
+            }
+            
+            // Cards are locked in once the game room opens; index them for winner detection
+            reloadPlayers(live);
+            live.setWinDetector(null);
+            winDetectorFor(live);
+            gameMetrics.gameStarted(countPlayersWithCards(session));
+            publishSnapshot(live);
+            gameEventPublisher.phaseChanged(sessionCode, "gameRoom");
+            startNumberCalling(live);
+        } else {
+            Integer previous = session.getCountdown();
+            session.setCountdown(remaining);
+            if (previous == null || previous != remaining) {
+                publishSnapshot(live);
+                gameEventPublisher.countdown(sessionCode, remaining);
             }
-        } catch (Exception e) {
-            log.error("Error updating countdown for session {}: {}", sessionCode, e.getMessage(), e);
         }
     }
 
-    private void callNextNumber(String sessionCode) {
+    private long countdownDeadline(GameSession session) {
+        Integer cd = session.getCountdown();
+        if (cd == null) cd = countdownSeconds;
+        return System.currentTimeMillis() + cd * 1000L;
+    }
+
+    /**
+     * Copy of the session's own columns for saving off the session loop.
+     * Players are left out: they are saved on their own, and the copy must not share
+     * the loop's mutable player list with the flushing thread.
+     */
+    private GameSession persistentCopy(GameSession session) {
+        return session.toBuilder()
+                .playerSessions(new ArrayList<>())
+                .calledNumbers(new CopyOnWriteArrayList<>())
+                .build();
+    }
+
+    private void callNextNumber(LiveSession live) {
+        String sessionCode = live.getSessionCode();
         try {
-            GameSession gameSession = activeSessions.get(sessionCode);
-            if (gameSession == null || !gameSession.getGameActive()) {
+            GameSession gameSession = live.getGameSession();
+            if (live.isEnded() || !gameSession.getGameActive()) {
                 log.debug("Cannot call next number: session={}, gameActive={}", 
-                         sessionCode, gameSession != null ? gameSession.getGameActive() : "null");
+                         sessionCode, gameSession.getGameActive());
+                return;
+            }
+            long leaseToken = live.getLeaseToken();
+            if (leaseToken == SessionStateStore.NO_LEASE) {
+                log.debug("Not calling numbers for session {}: another node leads it", sessionCode);
                 return;
             }
             
             // Generate random number between 1-75 that hasn't been called
+            CalledNumbers alreadyCalled = calledNumbersFor(live);
             List<Integer> availableNumbers = new ArrayList<>();
             for (int i = 1; i <= 75; i++) {
-                if (gameSession.getCalledNumbers() != null && !gameSession.getCalledNumbers().contains(i)) {
+                if (!alreadyCalled.contains(i)) {
                     availableNumbers.add(i);
                 }
             }
@@ -1319,7 +1288,8 @@ public class GameSessionServiceImpl implements GameSessionService, InitializingB
             if (availableNumbers.isEmpty()) {
                 // All numbers called, end game
                 log.info("All numbers called for session {}, ending game", sessionCode);
-                endGame(sessionCode);
+                endGame(live);
+                startNextGame(sessionCode, 0);
                 return;
             }
             
@@ -1328,101 +1298,69 @@ public class GameSessionServiceImpl implements GameSessionService, InitializingB
             int calledNumber = availableNumbers.get(randomIndex);
             
             // Get the letter prefix for the called number
-            String letterPrefix = getLetterPrefix(calledNumber);
-            
-            if (gameSession.getCalledNumbers() == null) {
-                gameSession.setCalledNumbers(new HashSet<>());
+            String letterPrefix = SessionSnapshotBuilder.letterPrefix(calledNumber);
+            
+            List<Integer> callSequence = callSequenceFor(gameSession);
+            int callOrder = callSequence.size() + 1;
+            
+            // Append to the call log first: if the write fails nothing has changed yet, and the next tick draws again
+            CalledNumber logged = calledNumberRepository.save(CalledNumber.builder()
+                    .gameSession(gameSession)
+                    .number(calledNumber)
+                    .letter(letterPrefix)
+                    .callOrder(callOrder)
+                    .build());
+            gameMetrics.saved("called_number", gameSession.getPhase(), 1);
+            
+            // The fencing token rejects the call if another node has taken the session over meanwhile
+            if (!sessionStateStore.appendCall(sessionCode, calledNumber, leaseToken)) {
+                log.warn("Session {} has a newer leader; stopping number calling on this node", sessionCode);
+                calledNumberRepository.delete(logged);
+                live.setLeaseToken(SessionStateStore.NO_LEASE);
+                stopNumberCalling(live);
+                return;
             }
-            gameSession.getCalledNumbers().add(calledNumber);
-            sessionCalledNumbersOrdered.computeIfAbsent(sessionCode, k -> Collections.synchronizedList(new ArrayList<>())).add(calledNumber);
-            gameSession.setCurrentCall(calledNumber);
-            
-            // Clean up any duplicate references before saving
-            cleanupDuplicatePlayerSessions(gameSession);
-            
-            gameSessionRepository.save(gameSession);
-            
-            log.info("Called number: {}-{} for session: {}", letterPrefix, calledNumber, sessionCode);
-            
-            // Broadcast the called number to all players
-            broadcastNumberCall(calledNumber, gameSession, letterPrefix);
-            
-            // Don't check for winners automatically - let players call BINGO manually
-            // checkForWinner(gameSession, calledNumber);
             
-        } catch (Exception e) {
-            log.error("Error calling next number for session {}: {}", sessionCode, e.getMessage(), e);
-        }
-    }
-    
-    /**
-     * Get the letter prefix for a BINGO number (B, I, N, G, O).
-     */
-    private String getLetterPrefix(int number) {
-        if (number >= 1 && number <= 15) return "B";
-        if (number >= 16 && number <= 30) return "I";
-        if (number >= 31 && number <= 45) return "N";
-        if (number >= 46 && number <= 60) return "G";
-        if (number >= 61 && number <= 75) return "O";
-        return "?"; // Fallback for invalid numbers
-    }
-
-    private void broadcastNumberCall(int calledNumber, GameSession gameSession, String letterPrefix) {
-        try {
-            // Log the called number with letter prefix (broadcasting is now handled by web app)
-            List<PlayerGameSession> playerSessions = gameSession.getPlayerSessions();
-            // Only count players who have actually selected a card
-            long activePlayerCount = playerSessions != null ? 
-                playerSessions.stream()
-                    .filter(player -> player != null && player.getSelectedCardCode() != null)
-                    .count() : 0;
-            
-            log.info("Called number: {}-{} for {} active players in session: {}", 
-                     letterPrefix, calledNumber, activePlayerCount, gameSession.getSessionCode());
-            
-        } catch (Exception e) {
-            log.error("Error broadcasting number call {}-{} for session {}: {}", 
-                     letterPrefix, calledNumber, gameSession != null ? gameSession.getSessionCode() : "null", e.getMessage(), e);
-        }
-    }
-
-    /**
-     * Check if any player has won the game after a number is called.
-     * If a winner is found, announce them and end the game.
-     */
-    private void checkForWinner(GameSession gameSession, int calledNumber) {
-        try {
-            if (gameSession == null || gameSession.getPlayerSessions() == null) {
-                log.debug("Cannot check for winner: gameSession={}, playerSessions={}", 
-                         gameSession != null ? "exists" : "null",
-                         gameSession != null && gameSession.getPlayerSessions() != null ? "exists" : "null");
-                return;
+            long calledAt = System.nanoTime();
+            if (live.getLastCallNanos() != 0) {
+                gameMetrics.numberCalled(calledAt - live.getLastCallNanos(), TimeUnit.MILLISECONDS.toNanos(callIntervalMs));
             }
+            live.setLastCallNanos(calledAt);
             
-            log.debug("Checking for winner in session {} after calling number {}", 
-                     gameSession.getSessionCode(), calledNumber);
+            alreadyCalled.add(calledNumber);
+            int[] winCandidates = winDetectorFor(live).onNumberCalled(calledNumber);
+            callSequence.add(calledNumber);
+            gameSession.setCurrentCall(calledNumber);
             
-            // Check each player for a winning pattern
-            for (PlayerGameSession player : gameSession.getPlayerSessions()) {
-                if (player != null && player.getUser() != null && player.getSelectedCardCode() != null) {
-                    if (verifyBingo(player, gameSession.getCalledNumbers())) {
-                        // We have a winner!
-                        announceWinner(gameSession, player, calledNumber);
-                        return;
-                    }
-                }
+            log.atInfo()
+                    .setMessage("Number called")
+                    .addKeyValue("session", sessionCode)
+                    .addKeyValue("number", letterPrefix + "-" + calledNumber)
+                    .addKeyValue("callOrder", callSequence.size())
+                    .log();
+            publishSnapshot(live);
+            gameEventPublisher.numberCalled(sessionCode, calledNumber, letterPrefix, callSequence.size());
+            
+            // Don't announce winners automatically - let players call BINGO manually
+            if (winCandidates.length > 0) {
+                log.atInfo()
+                        .setMessage("Cards completed a line")
+                        .addKeyValue("session", sessionCode)
+                        .addKeyValue("number", letterPrefix + "-" + calledNumber)
+                        .addKeyValue("cards", Arrays.toString(winCandidates))
+                        .log();
             }
-            
+        
         } catch (Exception e) {
-            log.error("Error checking for winner in session {}: {}", 
-                     gameSession != null ? gameSession.getSessionCode() : "null", e.getMessage(), e);
+            log.error("Error calling next number for session {}: {}", sessionCode, e.getMessage(), e);
         }
     }
-    
+
     /**
      * Announce the winner and end the game.
      */
-    private void announceWinner(GameSession gameSession, PlayerGameSession winner, int calledNumber) {
+    private void announceWinner(LiveSession live, PlayerGameSession winner, int calledNumber) {
+        GameSession gameSession = live.getGameSession();
         try {
             String winnerName = winner.getUser().getFirstName() != null ? 
                                winner.getUser().getFirstName() : 
@@ -1439,20 +1377,22 @@ public class GameSessionServiceImpl implements GameSessionService, InitializingB
             gameSession.setPhase("ended");
             
             // Save the game session with winner information
-            gameSessionRepository.save(gameSession);
+            sessionWriteBehind.saveNow(gameSession);
+            publishSnapshot(live);
             
             // Broadcast winner announcement to all players
             broadcastWinnerAnnouncement(gameSession, winner, calledNumber);
+            gameEventPublisher.winner(gameSession.getSessionCode(), winnerName, winner.getSelectedCardCode());
             
             // End the game and restart
-            endGameWithWinner(gameSession.getSessionCode(), winner);
-            
+            endGameWithWinner(live, winner);
+        
         } catch (Exception e) {
             log.error("Error announcing winner for session {}: {}", 
                      gameSession.getSessionCode(), e.getMessage(), e);
         }
     }
-    
+
     /**
      * Broadcast winner announcement to all players.
      */
@@ -1478,660 +1418,252 @@ public class GameSessionServiceImpl implements GameSessionService, InitializingB
             
             // TODO: Implement actual broadcasting to Telegram users
             // For now, just log the announcement
-            
+        
         } catch (Exception e) {
             log.error("Error broadcasting winner announcement for session {}: {}", 
                      gameSession.getSessionCode(), e.getMessage(), e);
         }
     }
-    
+
     /**
      * End the game with winner information and restart.
      */
-    private void endGameWithWinner(String sessionCode, PlayerGameSession winner) {
+    private void endGameWithWinner(LiveSession live, PlayerGameSession winner) {
+        String sessionCode = live.getSessionCode();
         try {
             log.info("Ending game with winner for session: {}", sessionCode);
             
             // End the current game
-            endGame(sessionCode);
+            endGame(live);
             
             // Add a delay before starting the new game to allow players to see the announcement
-            scheduler.schedule(() -> {
-                try {
-                    log.info("Starting new game after winner announcement for session: {}", sessionCode);
-                    
-                    // Create new game session
-                    GameSession newSession = getOrCreateActiveSession();
-                    if ("cardSelection".equals(newSession.getPhase())) {
-                        ensureCountdownScheduled(newSession);
-                        log.info("New game session created: {} and countdown started", newSession.getSessionCode());
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("Error starting new game after winner: {}", e.getMessage(), e);
-                }
-            }, 5, TimeUnit.SECONDS);
-            
+            startNextGame(sessionCode, TimeUnit.SECONDS.toMillis(5));
+        
         } catch (Exception e) {
             log.error("Error ending game with winner for session {}: {}", sessionCode, e.getMessage(), e);
         }
     }
-    
+
     /**
-     * Get the winner's card numbers for display.
+     * Verify a player's card against the session's called-number bitset.
+     * The card code is resolved through the precompiled deck, so no JSON is parsed here.
      */
-    private List<List<Integer>> getWinnerCardNumbers(PlayerGameSession winner) {
-        try {
-            if (winner == null || winner.getCardNumbersJson() == null) {
-                log.warn("Cannot get winner card numbers: winner={}, cardNumbersJson={}", 
-                        winner != null ? winner.getId() : "null",
-                        winner != null ? winner.getCardNumbersJson() : "null");
-                return null;
-            }
-            
-            List<List<Integer>> cardNumbers = objectMapper.readValue(
-                    winner.getCardNumbersJson(),
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, List.class)
-            );
-            
-            log.debug("Retrieved winner card numbers for player {}: {}x{}", 
-                     winner.getId(), 
-                     cardNumbers != null ? cardNumbers.size() : 0, 
-                     cardNumbers != null && !cardNumbers.isEmpty() ? cardNumbers.get(0).size() : 0);
-            
-            return cardNumbers;
-            
-        } catch (Exception e) {
-            log.error("Error getting winner card numbers for player: {}", winner != null ? winner.getId() : "null", e);
-            return null;
-        }
-    }
-    
-    private boolean verifyBingo(PlayerGameSession player, Set<Integer> calledNumbers) {
-        try {
-            if (player == null || player.getCardNumbersJson() == null || calledNumbers == null) {
-                log.warn("Invalid parameters for BINGO verification: player={}, cardNumbersJson={}, calledNumbers={}", 
-                        player != null ? player.getId() : "null", 
-                        player != null ? player.getCardNumbersJson() : "null", 
-                        calledNumbers.size());
-                return false;
-            }
-            
-            List<List<Integer>> cardNumbers = objectMapper.readValue(
-                    player.getCardNumbersJson(), 
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, List.class)
-            );
-            
-            if (cardNumbers == null || cardNumbers.isEmpty()) {
-                log.warn("Invalid card numbers for player {}: {}", player.getId(), player.getCardNumbersJson());
-                return false;
-            }
-            
-            // Check rows
-            for (List<Integer> row : cardNumbers) {
-                if (row != null && row.stream().allMatch(cell -> calledNumbers.contains(cell) || cell == 0)) {
-                    log.debug("Player {} has winning row: {}", player.getId(), row);
-                    return true;
-                }
-            }
-            
-            // Check columns
-            for (int col = 0; col < 5; col++) {
-                boolean columnWin = true;
-                for (int row = 0; row < 5; row++) {
-                    if (row < cardNumbers.size() && col < cardNumbers.get(row).size()) {
-                        int cell = cardNumbers.get(row).get(col);
-                        if (!calledNumbers.contains(cell) && cell != 0) {
-                            columnWin = false;
-                            break;
-                        }
-                    } else {
-                        columnWin = false;
-                        break;
-                    }
-                }
-                if (columnWin) {
-                    log.debug("Player {} has winning column: {}", player.getId(), col);
-                    return true;
-                }
-            }
-            
-            // Check diagonals
-            boolean diagonal1Win = true;
-            boolean diagonal2Win = true;
-            
-            for (int i = 0; i < 5; i++) {
-                if (i < cardNumbers.size() && i < cardNumbers.get(i).size()) {
-                    int cell1 = cardNumbers.get(i).get(i);
-                    int cell2 = cardNumbers.get(i).get(4 - i);
-                    
-                    if (!calledNumbers.contains(cell1) && cell1 != 0) diagonal1Win = false;
-                    if (!calledNumbers.contains(cell2) && cell2 != 0) diagonal2Win = false;
-                } else {
-                    diagonal1Win = false;
-                    diagonal2Win = false;
-                    break;
-                }
-            }
-            
-            if (diagonal1Win) {
-                log.debug("Player {} has winning diagonal 1", player.getId());
-                return true;
-            }
-            if (diagonal2Win) {
-                log.debug("Player {} has winning diagonal 2", player.getId());
-                return true;
-            }
-            
+    private boolean verifyBingo(BingoDeck deck, PlayerGameSession player, CalledNumbers calledNumbers) {
+        if (player == null || player.getSelectedCardCode() == null || calledNumbers == null) {
+            log.warn("Invalid parameters for BINGO verification: player={}, cardCode={}",
+                    player != null ? player.getId() : "null",
+                    player != null ? player.getSelectedCardCode() : "null");
             return false;
-            
-        } catch (Exception e) {
-            log.error("Error verifying BINGO for player: {}", player != null ? player.getId() : "null", e);
+        }
+        if (!BingoDeck.isValidCardCode(player.getSelectedCardCode())) {
+            log.warn("Invalid card code for player {}: {}", player.getId(), player.getSelectedCardCode());
             return false;
         }
+        
+        int line = deck.winningLine(
+                player.getSelectedCardCode(), calledNumbers.getLow(), calledNumbers.getHigh());
+        if (line != BingoDeck.NO_LINE) {
+            log.debug("Player {} has winning line {} on card {}", player.getId(), line, player.getSelectedCardCode());
+            return true;
+        }
+        return false;
     }
 
-    private GameSessionResponse buildGameSessionResponse(GameSession gameSession, User currentUser) {
-        try {
-            // Ensure playerSessions is not null
-            List<PlayerGameSession> playerSessions = gameSession.getPlayerSessions();
-            if (playerSessions == null) {
-                playerSessions = new ArrayList<>();
-            }
-            Set<Integer> selectedCardCodes = sessionSelectedCardCodes.getOrDefault(gameSession.getSessionCode(), new HashSet<>());
-
-            // Count ALL players in the session for debugging purposes
-            long totalPlayerCount = playerSessions.stream()
-                    .filter(player -> player != null && player.getUser() != null)
-                    .count();
-            
-            // Also count players who have actually selected a card
-            long activePlayerCount = playerSessions.stream()
-                    .filter(player -> player != null && player.getSelectedCardCode() != null)
-                    .count();
-            
-            // Validate that the count matches the selected card codes set
-            Set<Integer> selectedCardCodesSet = sessionSelectedCardCodes.getOrDefault(gameSession.getSessionCode(), new HashSet<>());
-            long selectedCardsCount = selectedCardCodesSet.size();
-            
-            // Log detailed player information for debugging
-            log.info("Session {} - Player Count Debug:", gameSession.getSessionCode());
-            log.info("  - Total player sessions: {}", playerSessions != null ? playerSessions.size() : 0);
-            log.info("  - Total players (registered): {}", totalPlayerCount);
-            log.info("  - Active players (with cards): {}", activePlayerCount);
-            log.info("  - Selected card codes count: {}", selectedCardsCount);
-            
-            // Log each player's status with more detail
-            if (playerSessions != null) {
-                log.info("Session {} - Player Details:", gameSession.getSessionCode());
-                for (PlayerGameSession player : playerSessions) {
-                    if (player != null && player.getUser() != null) {
-                        log.info("  - Player {} (ID: {}, Session ID: {}): Card selected: {}", 
-                                player.getUser().getTelegramId(), 
-                                player.getId(),
-                                player.getGameSession() != null ? player.getGameSession().getId() : "null",
-                                player.getSelectedCardCode() != null ? "YES - " + player.getSelectedCardCode() : "NO");
-                    } else {
-                        log.warn("Session {} - Found null player or user in playerSessions: player={}, user={}", 
-                                gameSession.getSessionCode(),
-                                player != null ? player.getId() : "null",
-                                player != null && player.getUser() != null ? player.getUser().getTelegramId() : "null");
+    /**
+     * Incremental winner detector for a session, built over the cards in play
+     * and caught up with any numbers already called.
+     */
+    private WinDetector winDetectorFor(LiveSession live) {
+        if (live.getWinDetector() == null) {
+            GameSession gameSession = live.getGameSession();
+            List<Integer> cardCodes = new ArrayList<>();
+            if (gameSession.getPlayerSessions() != null) {
+                for (PlayerGameSession player : gameSession.getPlayerSessions()) {
+                    if (player != null && player.getSelectedCardCode() != null) {
+                        cardCodes.add(player.getSelectedCardCode());
                     }
                 }
-            } else {
-                log.warn("Session {} - playerSessions is null", gameSession.getSessionCode());
             }
-            
-            // If there's a mismatch, log a warning and sync
-            if (activePlayerCount != selectedCardsCount) {
-                log.warn("Session {} - Player count mismatch! Active players: {}, Selected cards: {}", 
-                        gameSession.getSessionCode(), activePlayerCount, selectedCardsCount);
-                
-                // Force sync to fix the mismatch
-                syncPlayerCountWithSelectedCards(gameSession);
-                
-                // Recalculate after sync
-                selectedCardCodesSet = sessionSelectedCardCodes.getOrDefault(gameSession.getSessionCode(), new HashSet<>());
-                selectedCardsCount = selectedCardCodesSet.size();
-                log.info("Session {} - After sync: Active players: {}, Selected cards: {}", 
-                        gameSession.getSessionCode(), activePlayerCount, selectedCardsCount);
+            WinDetector detector = WinDetector.build(live.getDeck(), cardCodes);
+            for (Integer number : callSequenceFor(gameSession)) {
+                detector.onNumberCalled(number);
             }
+            log.debug("Built win detector for session {} over {} cards", live.getSessionCode(), cardCodes.size());
+            live.setWinDetector(detector);
+        }
+        return live.getWinDetector();
+    }
 
-            // Check if current user has selected a card
-            Boolean hasSelectedCard = false;
-            String waitMessage = null;
-            
-            if (currentUser != null) {
-                Optional<PlayerGameSession> currentPlayer = playerSessions.stream()
-                        .filter(player -> player != null && player.getUser() != null && player.getUser().getId() != null && 
-                                       currentUser.getId() != null && player.getUser().getId().equals(currentUser.getId()))
-                        .findFirst();
-                
-                if (currentPlayer.isPresent()) {
-                    hasSelectedCard = currentPlayer.get().getSelectedCardCode() != null;
-                }
-                
-                if (!hasSelectedCard) {
-                    if ("gameRoom".equals(gameSession.getPhase()) || gameSession.getGameActive()) {
-                        waitMessage = "Game is already in progress. Please wait for the current game to end before joining.";
-                    } else if (gameSession.getCountdown() != null && gameSession.getCountdown() < 10) {
-                        waitMessage = "Game is about to start! Please wait for the next round.";
-                    } else {
-                        waitMessage = "Please select a card to join the game";
-                    }
-                }
-            } else {
-                // No current user (spectator or general request)
-                if ("gameRoom".equals(gameSession.getPhase()) || gameSession.getGameActive()) {
-                    waitMessage = "Game is currently in progress. You can watch or wait for the next round.";
-                } else if (gameSession.getCountdown() != null && gameSession.getCountdown() < 10) {
-                    waitMessage = "Game is about to start! Please wait for the next round.";
-                } else {
-                    waitMessage = "Game is open for players to join. Select a card to participate.";
-                }
+    private int countPlayersWithCards(GameSession gameSession) {
+        if (gameSession.getPlayerSessions() == null) {
+            return 0;
+        }
+        int count = 0;
+        for (PlayerGameSession player : gameSession.getPlayerSessions()) {
+            if (player != null && player.getSelectedCardCode() != null) {
+                count++;
             }
-
-            List<Integer> ordered = sessionCalledNumbersOrdered.getOrDefault(gameSession.getSessionCode(), Collections.emptyList());
-            
-            // Safely build the response without triggering toString() on entities
-            GameSessionResponse response = GameSessionResponse.builder()
-                    .sessionCode(gameSession.getSessionCode())
-                    .phase(gameSession.getPhase())
-                    .countdown(gameSession.getCountdown())
-                    .gameActive(gameSession.getGameActive())
-                    .calledNumbers(gameSession.getCalledNumbers() != null ? new HashSet<>(gameSession.getCalledNumbers()) : new HashSet<>())
-                    .calledNumbersOrdered(new ArrayList<>(ordered))
-                    .currentCall(gameSession.getCurrentCall())
-                    .currentCallWithLetter(gameSession.getCurrentCall() != null ? 
-                            getLetterPrefix(gameSession.getCurrentCall()) + "-" + gameSession.getCurrentCall() : null)
-                    .playerCount((int) totalPlayerCount)
-                    .winner(gameSession.getWinningPlayer() != null && gameSession.getWinningPlayer().getUser() != null ? 
-                            gameSession.getWinningPlayer().getUser().getFirstName() : null)
-                    .winningCardNumbers(gameSession.getWinningPlayer() != null ? readCardNumbers(gameSession.getWinningPlayer()) : null)
-                    .selectedCardCodes(new ArrayList<>(selectedCardCodesSet))
-                    .hasSelectedCard(hasSelectedCard)
-                    .waitMessage(waitMessage)
-                    .gameInProgress("gameRoom".equals(gameSession.getPhase()) || gameSession.getWinningPlayer() != null)
-                    .players(buildPlayerInfoList(gameSession))
-                    .build();
-            
-            log.info("Built game session response for session: {}, totalPlayers: {}, activePlayers: {}, totalPlayerSessions: {}, phase: {}", 
-                     gameSession.getSessionCode(), totalPlayerCount, activePlayerCount,
-                     gameSession.getPlayerSessions() != null ? gameSession.getPlayerSessions().size() : 0, 
-                     gameSession.getPhase());
-            
-            return response;
-            
-        } catch (Exception e) {
-            log.error("Error building game session response for session: {}", 
-                     gameSession != null ? gameSession.getSessionCode() : "null", e);
-            
-            // Return a minimal response to prevent complete failure
-            return GameSessionResponse.builder()
-                    .sessionCode(gameSession != null ? gameSession.getSessionCode() : "unknown")
-                    .phase("error")
-                    .countdown(0)
-                    .gameActive(false)
-                    .calledNumbers(new HashSet<>())
-                    .calledNumbersOrdered(new ArrayList<>())
-                    .currentCall(null)
-                    .playerCount(0)
-                    .winner(null)
-                    .winningCardNumbers(null)
-                    .selectedCardCodes(new ArrayList<>())
-                    .hasSelectedCard(false)
-                    .waitMessage("Error loading game session")
-                    .gameInProgress(false)
-                    .players(new ArrayList<>())
-                    .build();
         }
+        return count;
     }
 
-    /**
-     * Build a list of PlayerInfo objects from the game session's player sessions.
-     */
-    private List<PlayerInfo> buildPlayerInfoList(GameSession gameSession) {
-        try {
-            List<PlayerInfo> playerInfoList = new ArrayList<>();
-            
-            if (gameSession.getPlayerSessions() != null) {
-                log.debug("Session {} - Total PlayerGameSessions: {}", 
-                         gameSession.getSessionCode(), gameSession.getPlayerSessions().size());
-                
-                for (PlayerGameSession playerSession : gameSession.getPlayerSessions()) {
-                    if (playerSession != null && playerSession.getUser() != null) {
-                        // Include ALL players for debugging, not just those with selected cards
-                        PlayerInfo playerInfo = PlayerInfo.builder()
-                                .telegramId(playerSession.getUser().getTelegramId())
-                                .firstName(playerSession.getUser().getFirstName())
-                                .lastName(playerSession.getUser().getLastName())
-                                .userName(playerSession.getUser().getUserName())
-                                .selectedCardCode(playerSession.getSelectedCardCode())
-                                .isWinner(playerSession.getIsWinner())
-                                .build();
-                        
-                        playerInfoList.add(playerInfo);
-                        
-                        log.debug("Session {} - Added player: {} (Telegram: {}, Card: {}, Winner: {})", 
-                                 gameSession.getSessionCode(),
-                                 playerSession.getUser().getFirstName(),
-                                 playerSession.getUser().getTelegramId(),
-                                 playerSession.getSelectedCardCode(),
-                                 playerSession.getIsWinner());
-                    } else {
-                        log.warn("Session {} - Skipping invalid PlayerGameSession: playerSession={}, user={}", 
-                                 gameSession.getSessionCode(),
-                                 playerSession != null ? playerSession.getId() : "null",
-                                 playerSession != null && playerSession.getUser() != null ? 
-                                     playerSession.getUser().getTelegramId() : "null");
-                    }
-                }
-            } else {
-                log.warn("Session {} - No PlayerGameSessions found", gameSession.getSessionCode());
+    private PlayerGameSession findPlayerWithCard(GameSession gameSession, int cardCode) {
+        if (gameSession.getPlayerSessions() == null) {
+            return null;
+        }
+        for (PlayerGameSession player : gameSession.getPlayerSessions()) {
+            if (player != null && player.getSelectedCardCode() != null && player.getSelectedCardCode() == cardCode) {
+                return player;
             }
-            
-            log.info("Session {} - Built player info list: {} players", 
-                     gameSession.getSessionCode(), playerInfoList.size());
-            
-            return playerInfoList;
-            
-        } catch (Exception e) {
-            log.error("Error building player info list for session: {}", 
-                     gameSession.getSessionCode(), e);
-            return new ArrayList<>();
         }
+        return null;
     }
-    
-    private List<List<Integer>> readCardNumbers(PlayerGameSession player) {
-        try {
-            if (player == null || player.getCardNumbersJson() == null) {
-                log.warn("Cannot read card numbers: player={}, cardNumbersJson={}", 
-                        player != null ? player.getId() : "null", 
-                        player != null ? player.getCardNumbersJson() : "null");
-                return null;
-            }
-            
-            List<List<Integer>> cardNumbers = objectMapper.readValue(
-                    player.getCardNumbersJson(),
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, List.class)
-            );
-            
-            log.debug("Successfully read card numbers for player {}: {}x{}", 
-                     player.getId(), 
-                     cardNumbers != null ? cardNumbers.size() : 0, 
-                     cardNumbers != null && !cardNumbers.isEmpty() ? cardNumbers.get(0).size() : 0);
-            
-            return cardNumbers;
-            
-        } catch (Exception e) {
-            log.error("Error reading card numbers for player: {}", player != null ? player.getId() : "null", e);
+
+    private PlayerGameSession findPlayerForUser(GameSession gameSession, Long userId) {
+        if (gameSession.getPlayerSessions() == null || userId == null) {
             return null;
         }
+        for (PlayerGameSession player : gameSession.getPlayerSessions()) {
+            if (player != null && player.getUser() != null && userId.equals(player.getUser().getId())) {
+                return player;
+            }
+        }
+        return null;
     }
-    
+
     /**
-     * Clean up duplicate references in the playerSessions list to prevent Hibernate errors.
-     * This method removes duplicate PlayerGameSession entities based on their ID.
+     * With shared state players join through any node, and their player_game_sessions rows are the
+     * shared record of who holds which card. The store versions them, so the rows are only reloaded
+     * when another node changed them since this node last looked; the win detector is then stale
+     * and dropped.
+     *
+     * @return whether the players were reloaded
      */
-    private void cleanupDuplicatePlayerSessions(GameSession gameSession) {
-        if (gameSession.getPlayerSessions() == null || gameSession.getPlayerSessions().isEmpty()) {
-            return;
+    private boolean reloadPlayers(LiveSession live) {
+        if (!sessionStateStore.isShared()) {
+            return false;
         }
-        
-        // Validate the integrity of the playerSessions list first
-        validatePlayerSessionsIntegrity(gameSession);
-        
-        // Log the current state for debugging
-        log.debug("Cleaning up player sessions for session: {}, current count: {}", 
-                 gameSession.getSessionCode(), gameSession.getPlayerSessions().size());
-        
-        // Use a Set to track seen IDs and remove duplicates
-        Set<Long> seenIds = new HashSet<>();
-        List<PlayerGameSession> uniquePlayers = new ArrayList<>();
-        
-        for (PlayerGameSession player : gameSession.getPlayerSessions()) {
-            if (player != null && player.getId() != null) {
-                if (!seenIds.contains(player.getId())) {
-                    seenIds.add(player.getId());
-                    uniquePlayers.add(player);
-                } else {
-                    log.warn("Removing duplicate PlayerGameSession with ID: {} from session: {}", 
-                             player.getId(), gameSession.getSessionCode());
-                }
-            } else {
-                log.warn("Found null or invalid PlayerGameSession in session: {}, player: {}", 
-                         gameSession.getSessionCode(), player);
-            }
+        // Read the version first: a change made while loading is then picked up on the next check
+        long version = sessionStateStore.playersVersion(live.getSessionCode());
+        if (version == live.getPlayersVersion()) {
+            return false;
         }
-        
-        // Replace the list with the deduplicated version
-        if (uniquePlayers.size() != gameSession.getPlayerSessions().size()) {
-            int removedCount = gameSession.getPlayerSessions().size() - uniquePlayers.size();
-            gameSession.setPlayerSessions(uniquePlayers);
-            log.info("Cleaned up duplicate player sessions for session: {}, removed {} duplicates", 
-                     gameSession.getSessionCode(), removedCount);
-        } else {
-            log.debug("No duplicates found in session: {}", gameSession.getSessionCode());
+        Optional<GameSession> persisted = gameSessionRepository.findBySessionCodeWithPlayers(live.getSessionCode());
+        if (persisted.isEmpty()) {
+            return false;
         }
+        live.setPlayersVersion(version);
+        live.getGameSession().setPlayerSessions(new ArrayList<>(persisted.get().getPlayerSessions()));
+        live.setWinDetector(null);
+        log.debug("Reloaded players of session {} at version {}", live.getSessionCode(), version);
+        return true;
     }
-    
+
     /**
-     * Validate the integrity of the playerSessions list to ensure data consistency.
-     * This method logs warnings for any inconsistencies found.
+     * Tell other nodes that this node changed the session's players. Its own list is already
+     * current, so it keeps the new version unless another node changed the players in between.
      */
-    private void validatePlayerSessionsIntegrity(GameSession gameSession) {
-        if (gameSession.getPlayerSessions() == null) {
+    private void markPlayersChanged(LiveSession live) {
+        if (!sessionStateStore.isShared()) {
             return;
         }
-        
-        Set<Long> playerIds = new HashSet<>();
-        Set<Long> duplicateIds = new HashSet<>();
-        
-        for (PlayerGameSession player : gameSession.getPlayerSessions()) {
-            if (player != null && player.getId() != null) {
-                if (!playerIds.add(player.getId())) {
-                    duplicateIds.add(player.getId());
-                }
-            }
-        }
-        
-        if (!duplicateIds.isEmpty()) {
-            log.warn("Found duplicate player IDs in session {}: {}", 
-                     gameSession.getSessionCode(), duplicateIds);
-        }
-        
-        // Check for null references
-        long nullCount = gameSession.getPlayerSessions().stream()
-                .filter(Objects::isNull)
-                .count();
-        
-        if (nullCount > 0) {
-            log.warn("Found {} null references in playerSessions for session: {}", 
-                     nullCount, gameSession.getSessionCode());
+        long version = sessionStateStore.playersChanged(live.getSessionCode());
+        if (version == live.getPlayersVersion() + 1) {
+            live.setPlayersVersion(version);
         }
     }
-    
+
     /**
-     * Force refresh all active sessions to ensure data consistency between memory and database.
-     * This method should be called when there are suspected data inconsistencies.
+     * Tell other nodes that this node saved a change to the session itself (a winner, the end of the
+     * game). As with the players, it keeps the new version unless another node changed the session
+     * in between.
      */
-    private void forceRefreshAllActiveSessions() {
-        try {
-            log.info("Force refreshing all active sessions for data consistency");
-            for (GameSession session : activeSessions.values()) {
-                refreshPlayerSessionsFromDatabase(session);
-            }
-            log.info("Completed force refresh of all active sessions");
-            
-            // Log the current state after refresh
-            logCurrentSessionState();
-        } catch (Exception e) {
-            log.error("Error during force refresh of all active sessions", e);
+    private void markSessionChanged(LiveSession live) {
+        if (!sessionStateStore.isShared()) {
+            return;
+        }
+        long version = sessionStateStore.sessionChanged(live.getSessionCode());
+        if (version == live.getSessionVersion() + 1) {
+            live.setSessionVersion(version);
         }
     }
-    
+
     /**
-     * Log the current state of all active sessions for debugging purposes.
+     * Called-number bitset for a session, rebuilt from the call sequence if it is not tracked yet.
      */
-    private void logCurrentSessionState() {
-        try {
-            log.info("=== CURRENT SESSION STATE DEBUG ===");
-            for (GameSession session : activeSessions.values()) {
-                if (session != null) {
-                    log.info("Session: {} (Phase: {}, GameActive: {})", 
-                            session.getSessionCode(), session.getPhase(), session.getGameActive());
-                    log.info("  - PlayerSessions in memory: {}", 
-                            session.getPlayerSessions() != null ? session.getPlayerSessions().size() : 0);
-                    log.info("  - Selected card codes in memory: {}", 
-                            sessionSelectedCardCodes.getOrDefault(session.getSessionCode(), new HashSet<>()).size());
-                    
-                    // Log each player
-                    if (session.getPlayerSessions() != null) {
-                        for (PlayerGameSession player : session.getPlayerSessions()) {
-                            if (player != null && player.getUser() != null) {
-                                log.info("    - Player {} (ID: {}): Card: {}", 
-                                        player.getUser().getTelegramId(), 
-                                        player.getId(),
-                                        player.getSelectedCardCode() != null ? player.getSelectedCardCode() : "NO CARD");
-                            }
-                        }
-                    }
-                }
-            }
-            log.info("=== END SESSION STATE DEBUG ===");
-        } catch (Exception e) {
-            log.error("Error logging current session state", e);
+    private CalledNumbers calledNumbersFor(LiveSession live) {
+        if (live.getCalledNumbers() == null) {
+            live.setCalledNumbers(CalledNumbers.of(callSequenceFor(live.getGameSession())));
         }
+        return live.getCalledNumbers();
     }
-    
+
     /**
-     * Clean up any orphaned card codes that are marked as taken but no player actually has them.
-     * This method should be called periodically to maintain data consistency.
+     * Ordered call sequence of a session. A persisted session without one in memory
+     * is recovered from the shared call stream, or failing that by replaying its call log.
      */
-    private void cleanupOrphanedCardCodes(GameSession gameSession) {
-        try {
-            Set<Integer> selectedCardCodes = sessionSelectedCardCodes.getOrDefault(gameSession.getSessionCode(), new HashSet<>());
-            List<PlayerGameSession> playerSessions = gameSession.getPlayerSessions();
-            
-            if (playerSessions == null) {
-                playerSessions = new ArrayList<>();
-            }
-            
-            // Get actual cards that players have
-            Set<Integer> actualSelectedCards = new HashSet<>();
-            for (PlayerGameSession player : playerSessions) {
-                if (player != null && player.getSelectedCardCode() != null) {
-                    actualSelectedCards.add(player.getSelectedCardCode());
+    private List<Integer> callSequenceFor(GameSession gameSession) {
+        List<Integer> sequence = gameSession.getCalledNumbers();
+        if (sequence == null) {
+            sequence = new CopyOnWriteArrayList<>();
+            gameSession.setCalledNumbers(sequence);
+        }
+        if (sequence.isEmpty() && gameSession.getId() != null && !"cardSelection".equals(gameSession.getPhase())) {
+            List<Integer> shared = sessionStateStore.calls(gameSession.getSessionCode());
+            if (!shared.isEmpty()) {
+                sequence.addAll(shared);
+                log.info("Recovered {} called numbers for session {} from the state store", shared.size(), gameSession.getSessionCode());
+                return sequence;
+            }
+            List<CalledNumber> calls = calledNumberRepository.findByGameSessionIdOrderByCallOrderAsc(gameSession.getId());
+            if (!calls.isEmpty()) {
+                for (CalledNumber call : calls) {
+                    sequence.add(call.getNumber());
                 }
+                log.info("Replayed {} called numbers for session {}", calls.size(), gameSession.getSessionCode());
             }
-            
-            // Find orphaned cards
-            Set<Integer> orphanedCards = new HashSet<>(selectedCardCodes);
-            orphanedCards.removeAll(actualSelectedCards);
-            
-            if (!orphanedCards.isEmpty()) {
-                log.warn("Session {} - Found orphaned card codes: {}", 
-                        gameSession.getSessionCode(), orphanedCards);
-                
-                // Remove orphaned cards
-                selectedCardCodes.removeAll(orphanedCards);
-                log.info("Session {} - Cleaned up {} orphaned card codes", 
-                        gameSession.getSessionCode(), orphanedCards.size());
-            }
-        } catch (Exception e) {
-            log.error("Error cleaning up orphaned card codes for session: {}", 
-                     gameSession.getSessionCode(), e);
         }
+        return sequence;
     }
-    
+
     /**
-     * Refresh the player sessions list from the database to ensure the in-memory list is up-to-date.
-     * This fixes issues with lazy loading and ensures accurate player counts.
+     * Rebuild the session's snapshot after a change and publish it with the next version.
+     * Must run on the session's loop (or before the session is visible to anyone else).
      */
-    private void refreshPlayerSessionsFromDatabase(GameSession gameSession) {
-        try {
-            // Query the database for all player sessions for this game session
-            List<PlayerGameSession> dbPlayerSessions = playerGameSessionRepository
-                    .findByGameSessionId(gameSession.getId());
-            
-            if (dbPlayerSessions != null && !dbPlayerSessions.isEmpty()) {
-                // Update the in-memory list with the database data
-                gameSession.setPlayerSessions(new ArrayList<>(dbPlayerSessions));
-                log.debug("Session {} - Refreshed player sessions from database: {} players", 
-                         gameSession.getSessionCode(), dbPlayerSessions.size());
-                
-                // Also refresh the selected card codes set
-                Set<Integer> actualSelectedCards = new HashSet<>();
-                for (PlayerGameSession player : dbPlayerSessions) {
-                    if (player != null && player.getSelectedCardCode() != null) {
-                        actualSelectedCards.add(player.getSelectedCardCode());
-                    }
-                }
-                sessionSelectedCardCodes.put(gameSession.getSessionCode(), actualSelectedCards);
-                
-                log.debug("Session {} - Updated selected card codes from database: {} cards", 
-                         gameSession.getSessionCode(), actualSelectedCards.size());
-            } else {
-                log.debug("Session {} - No player sessions found in database", gameSession.getSessionCode());
-                gameSession.setPlayerSessions(new ArrayList<>());
-                sessionSelectedCardCodes.put(gameSession.getSessionCode(), new HashSet<>());
-            }
-        } catch (Exception e) {
-            log.error("Error refreshing player sessions from database for session: {}", 
-                     gameSession.getSessionCode(), e);
+    private void publishSnapshot(LiveSession live) {
+        SessionSnapshot previous = live.getSnapshot();
+        long version = previous != null ? previous.getVersion() + 1 : 1;
+        long buildStarted = System.nanoTime();
+        SessionSnapshot snapshot = sessionSnapshotBuilder.build(live.getGameSession(), live.getDeck(),
+                callSequenceFor(live.getGameSession()), version);
+        gameMetrics.snapshotBuilt(System.nanoTime() - buildStarted);
+        live.setSnapshot(snapshot);
+        
+        // Wake long-polling clients
+        CompletableFuture<SessionSnapshot> waiter;
+        while ((waiter = live.getChangeWaiters().poll()) != null) {
+            waiter.complete(snapshot);
         }
     }
-    
+
     /**
-     * Synchronize the player count with the selected card codes to ensure accuracy.
-     * This method validates that the player count matches the number of selected cards.
+     * The current snapshot as seen by the given user (null for spectators). Spectators get the shared snapshot itself;
+     * a user gets a copy with their own card status and wait message.
      */
-    private void syncPlayerCountWithSelectedCards(GameSession gameSession) {
-        try {
-            Set<Integer> selectedCardCodes = sessionSelectedCardCodes.getOrDefault(gameSession.getSessionCode(), new HashSet<>());
-            List<PlayerGameSession> playerSessions = gameSession.getPlayerSessions();
-            
-            if (playerSessions == null) {
-                playerSessions = new ArrayList<>();
-            }
-            
-            // Count actual active players
-            long actualPlayerCount = playerSessions.stream()
-                    .filter(player -> player != null && player.getSelectedCardCode() != null)
-                    .count();
-            
-            // Rebuild the selected card codes set from actual player data (always sync)
-            Set<Integer> actualSelectedCards = new HashSet<>();
-            for (PlayerGameSession player : playerSessions) {
-                if (player != null && player.getSelectedCardCode() != null) {
-                    actualSelectedCards.add(player.getSelectedCardCode());
-                    log.debug("Session {} - Player {} has card {}", 
-                            gameSession.getSessionCode(), player.getId(), player.getSelectedCardCode());
-                }
-            }
-            
-            // Check for orphaned card codes (cards marked as taken but no player has them)
-            Set<Integer> orphanedCards = new HashSet<>(selectedCardCodes);
-            orphanedCards.removeAll(actualSelectedCards);
-            if (!orphanedCards.isEmpty()) {
-                log.warn("Session {} - Found orphaned card codes: {}", 
-                        gameSession.getSessionCode(), orphanedCards);
-            }
-            
-            // Update the session selected card codes
-            sessionSelectedCardCodes.put(gameSession.getSessionCode(), actualSelectedCards);
-            
-            log.info("Session {} - Synced selected card codes. Players: {}, Cards: {}, Orphaned: {}", 
-                    gameSession.getSessionCode(), actualPlayerCount, actualSelectedCards.size(), orphanedCards.size());
-            
-            // Validate final count
-            if (actualPlayerCount != actualSelectedCards.size()) {
-                log.error("Session {} - Final validation failed! Players: {}, Cards: {}", 
-                        gameSession.getSessionCode(), actualPlayerCount, actualSelectedCards.size());
-            }
-        } catch (Exception e) {
-            log.error("Error syncing player count with selected cards for session: {}", 
-                     gameSession.getSessionCode(), e);
+    private GameSessionResponse responseFor(LiveSession live, Long viewerTelegramId) {
+        GameSessionResponse snapshot = live.getSnapshot().getResponse();
+        if (viewerTelegramId == null) {
+            return snapshot;
         }
+        
+        boolean hasSelectedCard = snapshot.getPlayers().stream()
+                .anyMatch(player -> Objects.equals(player.getTelegramId(), viewerTelegramId)
+                        && player.getSelectedCardCode() != null);
+        
+        return snapshot.toBuilder()
+                .hasSelectedCard(hasSelectedCard)
+                .waitMessage(hasSelectedCard ? null
+                        : sessionSnapshotBuilder.waitMessage(snapshot.getPhase(), snapshot.getGameActive(), snapshot.getCountdown(), true))
+                .build();
     }
 }
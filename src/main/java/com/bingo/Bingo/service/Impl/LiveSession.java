@@ -0,0 +1,54 @@
+package com.bingo.Bingo.service.Impl;
+
+import com.bingo.Bingo.dto.response.SessionSnapshot;
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.engine.CalledNumbers;
+import com.bingo.Bingo.engine.SessionActor;
+import com.bingo.Bingo.engine.WinDetector;
+import com.bingo.Bingo.entity.GameSession;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * In-memory state of one game session; card reservations live in the session state store.
+ * Everything here is owned by the session's {@link SessionActor} and must only be read or
+ * changed from commands running on it; {@code snapshot}, {@code changeWaiters},
+ * {@code ended} and {@code leaseToken} are safe to use from any thread.
+ */
+@Getter
+@Setter
+class LiveSession {
+
+    private final String sessionCode;
+    private final GameSession gameSession;
+    private final SessionActor actor;
+    private final long deckVersion;
+    private final BingoDeck deck;
+    private final Queue<CompletableFuture<SessionSnapshot>> changeWaiters = new ConcurrentLinkedQueue<>();
+
+    private CalledNumbers calledNumbers;
+    private WinDetector winDetector;
+    private ScheduledFuture<?> countdownTask;
+    private ScheduledFuture<?> callingTask;
+    private ScheduledFuture<?> leaseTask;
+    private Long countdownDeadline;
+    private long lastCallNanos; // when this node last called a number, for the call jitter metric
+    private long playersVersion; // player version in the state store that the player list reflects
+    private long sessionVersion; // session version in the state store that the winner and phase reflect
+    private volatile SessionSnapshot snapshot;
+    private volatile boolean ended;
+    private volatile long leaseToken; // fencing token while this node leads the session, otherwise NO_LEASE
+
+    LiveSession(GameSession gameSession, long deckVersion, BingoDeck deck) {
+        this.sessionCode = gameSession.getSessionCode();
+        this.gameSession = gameSession;
+        this.deckVersion = deckVersion;
+        this.deck = deck;
+        this.actor = new SessionActor(sessionCode);
+    }
+}
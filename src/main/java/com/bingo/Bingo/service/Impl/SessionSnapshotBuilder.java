@@ -0,0 +1,215 @@
+package com.bingo.Bingo.service.Impl;
+
+import com.bingo.Bingo.dto.response.GameSessionResponse;
+import com.bingo.Bingo.dto.response.PlayerInfo;
+import com.bingo.Bingo.dto.response.SessionSnapshot;
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.entity.GameSession;
+import com.bingo.Bingo.entity.PlayerGameSession;
+import com.bingo.Bingo.logging.DiagnosticLog;
+import com.bingo.Bingo.state.SessionStateStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Builds the spectator view of a game session and its JSON form, which every read of the
+ * session is served from. The game session service rebuilds it after each change.
+ */
+@Component
+@Slf4j
+public class SessionSnapshotBuilder {
+
+    private final SessionStateStore sessionStateStore;
+    private final ObjectMapper objectMapper;
+    private final DiagnosticLog diagnosticLog;
+    private final int joinCutoffSeconds;
+
+    public SessionSnapshotBuilder(SessionStateStore sessionStateStore, ObjectMapper objectMapper, DiagnosticLog diagnosticLog,
+                                  @Value("${bingo.game.join-cutoff-seconds:10}") int joinCutoffSeconds) {
+        this.sessionStateStore = sessionStateStore;
+        this.objectMapper = objectMapper;
+        this.diagnosticLog = diagnosticLog;
+        this.joinCutoffSeconds = joinCutoffSeconds;
+    }
+
+    /**
+     * Snapshot of a session with the given version.
+     *
+     * @param calledNumbers the numbers called so far, in call order
+     */
+    public SessionSnapshot build(GameSession gameSession, BingoDeck deck, List<Integer> calledNumbers, long version) {
+        return snapshotOf(version, buildResponse(gameSession, deck, calledNumbers, version));
+    }
+
+    public SessionSnapshot snapshotOf(long version, GameSessionResponse response) {
+        try {
+            return new SessionSnapshot(version, response, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error serializing game session " + response.getSessionCode(), e);
+        }
+    }
+
+    /**
+     * Spectator view of the session. Collections are copied and unmodifiable, since the
+     * result is shared by every reader of the snapshot.
+     */
+    public GameSessionResponse buildResponse(GameSession gameSession, BingoDeck deck, List<Integer> calledNumbers, long version) {
+        try {
+            List<PlayerInfo> players = buildPlayerInfoList(gameSession);
+            List<Integer> selectedCardCodes = sessionStateStore.cards(gameSession.getSessionCode()).takenCodes();
+
+            // Safely build the response without triggering toString() on entities
+            GameSessionResponse response = GameSessionResponse.builder()
+                    .sessionCode(gameSession.getSessionCode())
+                    .version(version)
+                    .phase(gameSession.getPhase())
+                    .countdown(gameSession.getCountdown())
+                    .gameActive(gameSession.getGameActive())
+                    .calledNumbers(Collections.unmodifiableSet(new LinkedHashSet<>(calledNumbers)))
+                    .calledNumbersOrdered(List.copyOf(calledNumbers))
+                    .currentCall(gameSession.getCurrentCall())
+                    .currentCallWithLetter(gameSession.getCurrentCall() != null ?
+                            letterPrefix(gameSession.getCurrentCall()) + "-" + gameSession.getCurrentCall() : null)
+                    .playerCount(players.size())
+                    .winner(gameSession.getWinningPlayer() != null && gameSession.getWinningPlayer().getUser() != null ?
+                            gameSession.getWinningPlayer().getUser().getFirstName() : null)
+                    .winningCardNumbers(gameSession.getWinningPlayer() != null ? readCardNumbers(deck, gameSession.getWinningPlayer()) : null)
+                    .selectedCardCodes(List.copyOf(selectedCardCodes))
+                    .hasSelectedCard(false)
+                    .waitMessage(waitMessage(gameSession.getPhase(), gameSession.getGameActive(), gameSession.getCountdown(), false))
+                    .gameInProgress("gameRoom".equals(gameSession.getPhase()) || gameSession.getWinningPlayer() != null)
+                    .players(List.copyOf(players))
+                    .build();
+
+            if (diagnosticLog.sample(DiagnosticLog.SNAPSHOTS)) {
+                diagnosticLog.logger(DiagnosticLog.SNAPSHOTS).atDebug()
+                        .setMessage("Built snapshot")
+                        .addKeyValue("session", gameSession.getSessionCode())
+                        .addKeyValue("version", version)
+                        .addKeyValue("phase", gameSession.getPhase())
+                        .addKeyValue("players", players.size())
+                        .addKeyValue("cardsTaken", selectedCardCodes.size())
+                        .log();
+            }
+
+            return response;
+
+        } catch (Exception e) {
+            log.error("Error building game session response for session: {}",
+                     gameSession.getSessionCode(), e);
+
+            // Return a minimal response to prevent complete failure
+            return errorResponse(gameSession.getSessionCode(), "Error loading game session");
+        }
+    }
+
+    public GameSessionResponse errorResponse(String sessionCode, String waitMessage) {
+        return GameSessionResponse.builder()
+                .sessionCode(sessionCode)
+                .phase("error")
+                .countdown(0)
+                .gameActive(false)
+                .calledNumbers(new HashSet<>())
+                .calledNumbersOrdered(new ArrayList<>())
+                .currentCall(null)
+                .playerCount(0)
+                .winner(null)
+                .winningCardNumbers(null)
+                .selectedCardCodes(new ArrayList<>())
+                .hasSelectedCard(false)
+                .waitMessage(waitMessage)
+                .gameInProgress(false)
+                .players(new ArrayList<>())
+                .build();
+    }
+
+    public String waitMessage(String phase, Boolean gameActive, Integer countdown, boolean forPlayer) {
+        if ("gameRoom".equals(phase) || Boolean.TRUE.equals(gameActive)) {
+            return forPlayer
+                    ? "Game is already in progress. Please wait for the current game to end before joining."
+                    : "Game is currently in progress. You can watch or wait for the next round.";
+        }
+        if (countdown != null && countdown < joinCutoffSeconds) {
+            return "Game is about to start! Please wait for the next round.";
+        }
+        return forPlayer
+                ? "Please select a card to join the game"
+                : "Game is open for players to join. Select a card to participate.";
+    }
+
+    /**
+     * Get the letter prefix for a BINGO number (B, I, N, G, O).
+     */
+    public static String letterPrefix(int number) {
+        if (number >= 1 && number <= 15) return "B";
+        if (number >= 16 && number <= 30) return "I";
+        if (number >= 31 && number <= 45) return "N";
+        if (number >= 46 && number <= 60) return "G";
+        if (number >= 61 && number <= 75) return "O";
+        return "?"; // Fallback for invalid numbers
+    }
+
+    /**
+     * Build a list of PlayerInfo objects from the game session's player sessions.
+     */
+    private List<PlayerInfo> buildPlayerInfoList(GameSession gameSession) {
+        try {
+            List<PlayerInfo> playerInfoList = new ArrayList<>();
+
+            if (gameSession.getPlayerSessions() != null) {
+                for (PlayerGameSession playerSession : gameSession.getPlayerSessions()) {
+                    if (playerSession != null && playerSession.getUser() != null) {
+                        // Include ALL players for debugging, not just those with selected cards
+                        PlayerInfo playerInfo = PlayerInfo.builder()
+                                .telegramId(playerSession.getUser().getTelegramId())
+                                .firstName(playerSession.getUser().getFirstName())
+                                .lastName(playerSession.getUser().getLastName())
+                                .userName(playerSession.getUser().getUserName())
+                                .selectedCardCode(playerSession.getSelectedCardCode())
+                                .isWinner(playerSession.getIsWinner())
+                                .build();
+
+                        playerInfoList.add(playerInfo);
+                    } else {
+                        log.warn("Session {} - Skipping invalid PlayerGameSession: playerSession={}, user={}",
+                                 gameSession.getSessionCode(),
+                                 playerSession != null ? playerSession.getId() : "null",
+                                 playerSession != null && playerSession.getUser() != null ?
+                                     playerSession.getUser().getTelegramId() : "null");
+                    }
+                }
+            } else {
+                log.warn("Session {} - No PlayerGameSessions found", gameSession.getSessionCode());
+            }
+
+            return playerInfoList;
+
+        } catch (Exception e) {
+            log.error("Error building player info list for session: {}",
+                     gameSession.getSessionCode(), e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * The numbers on a player's card, looked up in the deck by card code.
+     */
+    private List<List<Integer>> readCardNumbers(BingoDeck deck, PlayerGameSession player) {
+        if (player == null || player.getSelectedCardCode() == null || !BingoDeck.isValidCardCode(player.getSelectedCardCode())) {
+            log.warn("Cannot read card numbers: player={}, cardCode={}",
+                    player != null ? player.getId() : "null",
+                    player != null ? player.getSelectedCardCode() : "null");
+            return null;
+        }
+        return deck.cardNumbers(player.getSelectedCardCode());
+    }
+}
@@ -1,6 +1,9 @@
 package com.bingo.Bingo.service.Impl;
 
+import com.bingo.Bingo.cache.UserCache;
 import com.bingo.Bingo.dto.request.UserDto;
+import com.bingo.Bingo.dto.response.RegistrationReport;
+import com.bingo.Bingo.dto.response.UserView;
 import com.bingo.Bingo.entity.User;
 import com.bingo.Bingo.exception.ResourceExistsException;
 import com.bingo.Bingo.exception.ResourceNotFound;
@@ -8,31 +11,61 @@ import com.bingo.Bingo.mapper.UserMapper;
 import com.bingo.Bingo.repository.UserRepository;
 import com.bingo.Bingo.service.UserService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-
+    private final UserCache userCache;
 
     @Override
     public UserDto registerUser(UserDto userDto) {
-        userRepository.findByTelegramId(userDto.getTelegramId())
-                .ifPresent(user -> {
-                    throw new ResourceExistsException("Already Registered, Click /play to start the Game");
-                });
         User newUser = UserMapper.toEntity(userDto);
 
-        userRepository.save(newUser);
+        boolean inserted;
+        try {
+            inserted = userRepository.insertIfAbsent(newUser);
+        } catch (DuplicateKeyException e) {
+            throw new ResourceExistsException("This phone number is already registered to another account");
+        }
+        if (!inserted) {
+            throw new ResourceExistsException("Already Registered, Click /play to start the Game");
+        }
+        userCache.invalidate(newUser.getTelegramId());
 
         return UserMapper.toDto(newUser);
     }
 
+    @Override
+    @Transactional
+    public RegistrationReport registerUsers(List<UserDto> userDtos) {
+        List<User> users = userDtos.stream().map(UserMapper::toEntity).toList();
+        int registered;
+        try {
+            registered = userRepository.insertAllIfAbsent(users);
+        } catch (DuplicateKeyException e) {
+            throw new ResourceExistsException("A phone number in the batch is already registered to another account");
+        }
+        userCache.invalidateAll(users.stream().map(User::getTelegramId).toList());
+        log.info("Registered {} of {} users in bulk", registered, users.size());
+        return RegistrationReport.builder()
+                .requested(users.size())
+                .registered(registered)
+                .alreadyRegistered(users.size() - registered)
+                .build();
+    }
+
     @Override
     public UserDto getUserByTelegramId(Long telegramId) {
-        User user = userRepository.findByTelegramId(telegramId)
+        UserView user = userCache.find(telegramId)
                 .orElseThrow(() -> new ResourceNotFound("User not found with Telegram ID: " + telegramId));
         return UserMapper.toDto(user);
     }
@@ -1,9 +1,14 @@
 package com.bingo.Bingo.service;
 
 import com.bingo.Bingo.dto.request.UserDto;
+import com.bingo.Bingo.dto.response.RegistrationReport;
+
+import java.util.List;
 
 public interface UserService {
     UserDto registerUser(UserDto userDto);
 
+    RegistrationReport registerUsers(List<UserDto> userDtos);
+
     UserDto getUserByTelegramId(Long telegramId);
 }
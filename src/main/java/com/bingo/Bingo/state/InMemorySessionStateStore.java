@@ -0,0 +1,130 @@
+package com.bingo.Bingo.state;
+
+import com.bingo.Bingo.engine.CardReservations;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Session state kept in this JVM; only correct when a single node serves the game.
+ */
+@Component
+@ConditionalOnProperty(name = "bingo.state.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySessionStateStore implements SessionStateStore {
+
+    private final Map<String, CardReservations> cards = new ConcurrentHashMap<>();
+    private final Map<String, List<Integer>> calls = new ConcurrentHashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> fences = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> playerVersions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> sessionVersions = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean claimCard(String sessionCode, int cardCode) {
+        return cards(sessionCode).claim(cardCode);
+    }
+
+    @Override
+    public boolean releaseCard(String sessionCode, int cardCode) {
+        return cards(sessionCode).release(cardCode);
+    }
+
+    @Override
+    public boolean swapCard(String sessionCode, int fromCardCode, int toCardCode) {
+        return cards(sessionCode).swap(fromCardCode, toCardCode);
+    }
+
+    @Override
+    public CardReservations cards(String sessionCode) {
+        return cards.computeIfAbsent(sessionCode, code -> new CardReservations());
+    }
+
+    @Override
+    public boolean appendCall(String sessionCode, int number, long fencingToken) {
+        AtomicLong fence = fence(sessionCode);
+        synchronized (fence) {
+            if (fencingToken < fence.get()) {
+                return false;
+            }
+            calls.computeIfAbsent(sessionCode, code -> new CopyOnWriteArrayList<>()).add(number);
+            return true;
+        }
+    }
+
+    @Override
+    public List<Integer> calls(String sessionCode) {
+        return List.copyOf(calls.getOrDefault(sessionCode, List.of()));
+    }
+
+    @Override
+    public List<Integer> callsSince(String sessionCode, int known) {
+        List<Integer> called = calls.getOrDefault(sessionCode, List.of());
+        int size = called.size();
+        return size > known ? List.copyOf(called.subList(known, size)) : List.of();
+    }
+
+    @Override
+    public long playersChanged(String sessionCode) {
+        return playerVersions.computeIfAbsent(sessionCode, code -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public long playersVersion(String sessionCode) {
+        AtomicLong version = playerVersions.get(sessionCode);
+        return version != null ? version.get() : 0;
+    }
+
+    @Override
+    public long sessionChanged(String sessionCode) {
+        return sessionVersions.computeIfAbsent(sessionCode, code -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public long sessionVersion(String sessionCode) {
+        AtomicLong version = sessionVersions.get(sessionCode);
+        return version != null ? version.get() : 0;
+    }
+
+    @Override
+    public long acquireLease(String sessionCode, String owner, Duration ttl) {
+        long now = System.nanoTime();
+        AtomicLong fence = fence(sessionCode);
+        Lease lease = leases.compute(sessionCode, (code, current) -> {
+            if (current != null && current.expiresAt - now > 0 && !current.owner.equals(owner)) {
+                return current;
+            }
+            long token = current != null && current.owner.equals(owner) && current.expiresAt - now > 0
+                    ? current.token : fence.incrementAndGet();
+            return new Lease(owner, token, now + ttl.toNanos());
+        });
+        return lease.owner.equals(owner) ? lease.token : NO_LEASE;
+    }
+
+    @Override
+    public void releaseLease(String sessionCode, String owner) {
+        leases.computeIfPresent(sessionCode, (code, current) -> current.owner.equals(owner) ? null : current);
+    }
+
+    @Override
+    public void clear(String sessionCode) {
+        cards.remove(sessionCode);
+        calls.remove(sessionCode);
+        leases.remove(sessionCode);
+        fences.remove(sessionCode);
+        playerVersions.remove(sessionCode);
+        sessionVersions.remove(sessionCode);
+    }
+
+    private AtomicLong fence(String sessionCode) {
+        return fences.computeIfAbsent(sessionCode, code -> new AtomicLong());
+    }
+
+    private record Lease(String owner, long token, long expiresAt) {
+    }
+}
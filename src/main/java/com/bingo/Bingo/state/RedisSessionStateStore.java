@@ -0,0 +1,252 @@
+package com.bingo.Bingo.state;
+
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.engine.CardReservations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Session state shared through Redis, so several nodes can serve the same game.
+ * <p>
+ * Reservations are a 400-bit bitmap per session: claiming is one {@code SETBIT}, which returns the
+ * previous bit, so exactly one caller sees the card go from free to taken. Called numbers are
+ * appended to a Redis stream per session; a node catching up reads only the tail it has not seen,
+ * counted back from the stream's length. The versions of a session and of its players are counters.
+ * The lease is a key holding {@code owner:token} with a millisecond TTL, next to a counter that hands
+ * out fencing tokens; taking the lease and checking the fence before an append are each a single
+ * Lua script, so they are atomic. All keys of a
+ * session carry its code as a hash tag so they live in the same cluster slot, and expire a while
+ * after the last write in case a session is never cleared.
+ */
+@Component
+@ConditionalOnProperty(name = "bingo.state.store", havingValue = "redis")
+@Slf4j
+public class RedisSessionStateStore implements SessionStateStore {
+
+    private static final String NUMBER_FIELD = "number";
+
+    private static final RedisScript<Long> ACQUIRE_LEASE = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+                local owner, token = string.match(current, '^(.*):(%d+)$')
+                if owner ~= ARGV[1] then
+                    return 0
+                end
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return tonumber(token)
+            end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return token
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LEASE = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if current and string.match(current, '^(.*):%d+$') == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> FENCED_APPEND = RedisScript.of("""
+            local fence = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if tonumber(ARGV[2]) < fence then
+                return 0
+            end
+            redis.call('XADD', KEYS[1], '*', 'number', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CALLS_SINCE = RedisScript.of("""
+            local missing = redis.call('XLEN', KEYS[1]) - tonumber(ARGV[1])
+            if missing <= 0 then
+                return {}
+            end
+            local entries = redis.call('XREVRANGE', KEYS[1], '+', '-', 'COUNT', missing)
+            local numbers = {}
+            for i = #entries, 1, -1 do
+                local fields = entries[i][2]
+                for j = 1, #fields, 2 do
+                    if fields[j] == ARGV[2] then
+                        numbers[#numbers + 1] = fields[j + 1]
+                    end
+                end
+            end
+            return numbers
+            """, List.class);
+
+    private final StringRedisTemplate redis;
+    private final Duration keyTtl;
+
+    public RedisSessionStateStore(StringRedisTemplate redis,
+                                  @Value("${bingo.state.redis.key-ttl-minutes:120}") long keyTtlMinutes) {
+        this.redis = redis;
+        this.keyTtl = Duration.ofMinutes(keyTtlMinutes);
+    }
+
+    @Override
+    public boolean claimCard(String sessionCode, int cardCode) {
+        checkCardCode(cardCode);
+        String key = cardsKey(sessionCode);
+        Boolean wasTaken = redis.opsForValue().setBit(key, cardCode - 1, true);
+        redis.expire(key, keyTtl);
+        return !Boolean.TRUE.equals(wasTaken);
+    }
+
+    @Override
+    public boolean releaseCard(String sessionCode, int cardCode) {
+        checkCardCode(cardCode);
+        return Boolean.TRUE.equals(redis.opsForValue().setBit(cardsKey(sessionCode), cardCode - 1, false));
+    }
+
+    @Override
+    public CardReservations cards(String sessionCode) {
+        byte[] bitmap = redis.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(cardsKey(sessionCode).getBytes(StandardCharsets.UTF_8)));
+        CardReservations reservations = new CardReservations();
+        if (bitmap == null) {
+            return reservations;
+        }
+        // SETBIT offset 0 is the most significant bit of the first byte
+        for (int i = 0; i < bitmap.length; i++) {
+            for (int bit = 0; bit < 8; bit++) {
+                int cardCode = i * 8 + bit + 1;
+                if ((bitmap[i] & (0x80 >>> bit)) != 0 && BingoDeck.isValidCardCode(cardCode)) {
+                    reservations.claim(cardCode);
+                }
+            }
+        }
+        return reservations;
+    }
+
+    @Override
+    public boolean appendCall(String sessionCode, int number, long fencingToken) {
+        Long appended = redis.execute(FENCED_APPEND, List.of(callsKey(sessionCode), fenceKey(sessionCode)),
+                String.valueOf(number), String.valueOf(fencingToken), String.valueOf(keyTtl.toMillis()));
+        return Long.valueOf(1).equals(appended);
+    }
+
+    @Override
+    public List<Integer> calls(String sessionCode) {
+        List<MapRecord<String, Object, Object>> records = redis.opsForStream().range(callsKey(sessionCode), Range.unbounded());
+        List<Integer> numbers = new ArrayList<>();
+        if (records != null) {
+            for (MapRecord<String, Object, Object> record : records) {
+                numbers.add(Integer.parseInt(String.valueOf(record.getValue().get(NUMBER_FIELD))));
+            }
+        }
+        return numbers;
+    }
+
+    @Override
+    public List<Integer> callsSince(String sessionCode, int known) {
+        List<?> tail = redis.execute(CALLS_SINCE, List.of(callsKey(sessionCode)), String.valueOf(known), NUMBER_FIELD);
+        List<Integer> numbers = new ArrayList<>();
+        if (tail != null) {
+            for (Object number : tail) {
+                numbers.add(Integer.parseInt(String.valueOf(number)));
+            }
+        }
+        return numbers;
+    }
+
+    @Override
+    public long playersChanged(String sessionCode) {
+        return increment(playersKey(sessionCode));
+    }
+
+    @Override
+    public long playersVersion(String sessionCode) {
+        return counter(playersKey(sessionCode));
+    }
+
+    @Override
+    public long sessionChanged(String sessionCode) {
+        return increment(versionKey(sessionCode));
+    }
+
+    @Override
+    public long sessionVersion(String sessionCode) {
+        return counter(versionKey(sessionCode));
+    }
+
+    @Override
+    public long acquireLease(String sessionCode, String owner, Duration ttl) {
+        Long token = redis.execute(ACQUIRE_LEASE, List.of(leaseKey(sessionCode), fenceKey(sessionCode)),
+                owner, String.valueOf(ttl.toMillis()), String.valueOf(keyTtl.toMillis()));
+        return token == null ? NO_LEASE : token;
+    }
+
+    @Override
+    public void releaseLease(String sessionCode, String owner) {
+        redis.execute(RELEASE_LEASE, List.of(leaseKey(sessionCode)), owner);
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    @Override
+    public void clear(String sessionCode) {
+        redis.delete(List.of(cardsKey(sessionCode), callsKey(sessionCode), leaseKey(sessionCode), fenceKey(sessionCode),
+                playersKey(sessionCode), versionKey(sessionCode)));
+        log.debug("Cleared shared state of session {}", sessionCode);
+    }
+
+    private long increment(String key) {
+        Long value = redis.opsForValue().increment(key);
+        redis.expire(key, keyTtl);
+        return value != null ? value : 0;
+    }
+
+    private long counter(String key) {
+        String value = redis.opsForValue().get(key);
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    private static String cardsKey(String sessionCode) {
+        return "bingo:session:{" + sessionCode + "}:cards";
+    }
+
+    private static String callsKey(String sessionCode) {
+        return "bingo:session:{" + sessionCode + "}:calls";
+    }
+
+    private static String playersKey(String sessionCode) {
+        return "bingo:session:{" + sessionCode + "}:players";
+    }
+
+    private static String versionKey(String sessionCode) {
+        return "bingo:session:{" + sessionCode + "}:version";
+    }
+
+    private static String leaseKey(String sessionCode) {
+        return "bingo:session:{" + sessionCode + "}:lease";
+    }
+
+    private static String fenceKey(String sessionCode) {
+        return "bingo:session:{" + sessionCode + "}:fence";
+    }
+
+    private static void checkCardCode(int cardCode) {
+        if (!BingoDeck.isValidCardCode(cardCode)) {
+            throw new IllegalArgumentException("Card code must be between 1 and " + BingoDeck.DECK_SIZE + ": " + cardCode);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.bingo.Bingo.state;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * This node's side of the per-session leases in the {@link SessionStateStore}. A session's
+ * loop calls {@link #lead} every {@link #getRenewInterval()}; whichever node gets a token drives
+ * the session until it fails to renew, after which a standby's next attempt takes over.
+ */
+@Component
+@Slf4j
+public class SessionLeader {
+
+    private final SessionStateStore sessionStateStore;
+    @Getter
+    private final String nodeId;
+    private final Duration leaseTtl;
+    @Getter
+    private final Duration renewInterval;
+
+    public SessionLeader(SessionStateStore sessionStateStore,
+                         @Value("${bingo.node-id:}") String nodeId,
+                         @Value("${bingo.state.lease-ttl-ms:2000}") long leaseTtlMs) {
+        this.sessionStateStore = sessionStateStore;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+        // Renew well inside the TTL so one slow renewal does not cost the lease
+        this.renewInterval = Duration.ofMillis(Math.max(1, leaseTtlMs / 3));
+        log.info("Node {} leads sessions with {} ms leases", this.nodeId, leaseTtlMs);
+    }
+
+    /**
+     * Take or keep the lease on a session.
+     *
+     * @return the fencing token to write with, or {@link SessionStateStore#NO_LEASE} if another node leads it
+     */
+    public long lead(String sessionCode) {
+        try {
+            return sessionStateStore.acquireLease(sessionCode, nodeId, leaseTtl);
+        } catch (RuntimeException e) {
+            // Without the store we cannot prove we still lead, so stand down until it is back
+            log.warn("Could not renew lease on session {}: {}", sessionCode, e.getMessage());
+            return SessionStateStore.NO_LEASE;
+        }
+    }
+
+    public void resign(String sessionCode) {
+        try {
+            sessionStateStore.releaseLease(sessionCode, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Could not release lease on session {}: {}", sessionCode, e.getMessage());
+        }
+    }
+}
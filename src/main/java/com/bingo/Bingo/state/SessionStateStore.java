@@ -0,0 +1,134 @@
+package com.bingo.Bingo.state;
+
+import com.bingo.Bingo.engine.CardReservations;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Shared state of live game sessions that every node must agree on: which cards are reserved,
+ * the order numbers were called in and which node drives each session. Card claims are atomic
+ * in the store itself, so two players can never hold the same card even when their requests
+ * land on different nodes.
+ * <p>
+ * Each session is driven (countdown, number calling) by the node holding its lease. Every
+ * acquisition of a lease hands out a larger fencing token, and a call is only appended if it
+ * carries the newest token, so a node that stalled past its lease cannot call numbers over
+ * the node that took over.
+ * <p>
+ * Players and the session's own state (its winner, whether it ended) are kept in the database;
+ * the store only carries a version of each, so a node can tell with one read whether it has to
+ * reload them.
+ * <p>
+ * Selected with {@code bingo.state.store}: {@code memory} (default, single node) or {@code redis}.
+ */
+public interface SessionStateStore {
+
+    long NO_LEASE = 0;
+
+    /**
+     * Reserve a card.
+     *
+     * @return false if the card was already reserved
+     */
+    boolean claimCard(String sessionCode, int cardCode);
+
+    /**
+     * Free a card.
+     *
+     * @return false if the card was not reserved
+     */
+    boolean releaseCard(String sessionCode, int cardCode);
+
+    /**
+     * Move a reservation from one card to another. The target is claimed first,
+     * so the holder never ends up with neither card.
+     *
+     * @return false if the target card is already reserved; the source is then left untouched
+     */
+    default boolean swapCard(String sessionCode, int fromCardCode, int toCardCode) {
+        if (fromCardCode == toCardCode) {
+            return cards(sessionCode).isTaken(toCardCode);
+        }
+        if (!claimCard(sessionCode, toCardCode)) {
+            return false;
+        }
+        releaseCard(sessionCode, fromCardCode);
+        return true;
+    }
+
+    /**
+     * The session's reservations for reading. Depending on the store this is either the live
+     * bitmap or a copy taken now; change reservations only through the store.
+     */
+    CardReservations cards(String sessionCode);
+
+    /**
+     * Append a number to the session's call stream.
+     *
+     * @param fencingToken the caller's lease token
+     * @return false if a newer lease has been handed out since; nothing is appended then
+     */
+    boolean appendCall(String sessionCode, int number, long fencingToken);
+
+    /**
+     * Called numbers in call order.
+     */
+    List<Integer> calls(String sessionCode);
+
+    /**
+     * Numbers called after the first {@code known} ones, in call order; empty if there are none.
+     */
+    List<Integer> callsSince(String sessionCode, int known);
+
+    /**
+     * Record that the session's players changed (a join, a card change, a BINGO result), so
+     * other nodes reload them.
+     *
+     * @return the new player version
+     */
+    long playersChanged(String sessionCode);
+
+    /**
+     * Version of the session's players, bumped by {@link #playersChanged}; 0 until they first change.
+     */
+    long playersVersion(String sessionCode);
+
+    /**
+     * Record that the session itself changed (a winner was found, the game ended), so other nodes
+     * reload it.
+     *
+     * @return the new session version
+     */
+    long sessionChanged(String sessionCode);
+
+    /**
+     * Version of the session, bumped by {@link #sessionChanged}; 0 until it first changes.
+     */
+    long sessionVersion(String sessionCode);
+
+    /**
+     * Take or renew the lease on a session for {@code ttl}.
+     *
+     * @return the fencing token of the owner's lease (the same token on renewal, a larger one
+     * on a fresh acquisition), or {@link #NO_LEASE} if another owner holds it
+     */
+    long acquireLease(String sessionCode, String owner, Duration ttl);
+
+    /**
+     * Give up a lease early so another node can take over without waiting for it to expire.
+     */
+    void releaseLease(String sessionCode, String owner);
+
+    /**
+     * Forget everything about a session that has ended.
+     */
+    void clear(String sessionCode);
+
+    /**
+     * Whether other nodes see the same state, in which case a node may pick up sessions it did not create.
+     */
+    default boolean isShared() {
+        return false;
+    }
+}
@@ -7,7 +7,14 @@ import java.util.Random;
 public class GameFunctions {
 
     public static List<List<Integer>> generateBingoCard() {
-        Random rand = new Random();
+        return generateBingoCard(new Random());
+    }
+
+    /**
+     * Generate a card from the given source of randomness, so a seeded {@link Random}
+     * always produces the same sequence of cards.
+     */
+    public static List<List<Integer>> generateBingoCard(Random rand) {
         List<List<Integer>> card = new ArrayList<>();
         int[][] ranges = {{1,15},{16,30},{31,45},{46,60},{61,75}};
 
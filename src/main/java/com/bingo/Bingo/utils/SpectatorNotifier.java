@@ -0,0 +1,114 @@
+package com.bingo.Bingo.utils;
+
+import com.bingo.Bingo.broadcast.TelegramBroadcaster;
+import com.bingo.Bingo.common.enums.GameEventType;
+import com.bingo.Bingo.dto.response.GameEvent;
+import com.bingo.Bingo.dto.response.GameSessionResponse;
+import com.bingo.Bingo.service.GameSessionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps /watch spectators up to date. Session events are observed once per session and the
+ * resulting status is fanned out to every chat watching it through the {@link TelegramBroadcaster},
+ * so spectator updates share the bot's rate limit and back off on 429s like any other broadcast.
+ * States already sent (same phase, last call and winner) are skipped, and a session's
+ * watchers are dropped once its game is over.
+ */
+@Component
+@Slf4j
+public class SpectatorNotifier {
+
+    private final GameSessionService gameSessionService;
+    private final TelegramBot telegramBot;
+    private final TelegramBroadcaster telegramBroadcaster;
+
+    private final Map<String, Set<Long>> watchers = new ConcurrentHashMap<>();
+    private final Map<String, String> lastSentState = new ConcurrentHashMap<>();
+
+    public SpectatorNotifier(GameSessionService gameSessionService,
+                             @Lazy TelegramBot telegramBot,
+                             TelegramBroadcaster telegramBroadcaster) {
+        this.gameSessionService = gameSessionService;
+        this.telegramBot = telegramBot;
+        this.telegramBroadcaster = telegramBroadcaster;
+    }
+
+    /**
+     * Subscribe a chat to a session, whose current state it has just been sent.
+     */
+    public void watch(Long chatId, GameSessionResponse current) {
+        if (isOver(current)) {
+            return;
+        }
+        watchers.computeIfAbsent(current.getSessionCode(), code -> ConcurrentHashMap.newKeySet()).add(chatId);
+        lastSentState.putIfAbsent(current.getSessionCode(), stateKey(current));
+        log.debug("Chat {} is watching session {}", chatId, current.getSessionCode());
+    }
+
+    /**
+     * Runs on the session's loop, so it only decides what to send and leaves the sending to the broadcaster.
+     */
+    @EventListener
+    public void onGameEvent(GameEvent event) {
+        if (event.getType() != GameEventType.NUMBER_CALLED
+                && event.getType() != GameEventType.PHASE_CHANGED
+                && event.getType() != GameEventType.WINNER) {
+            return;
+        }
+        String sessionCode = event.getSessionCode();
+        Set<Long> chats = watchers.get(sessionCode);
+        if (chats == null) {
+            return;
+        }
+
+        GameSessionResponse status;
+        try {
+            status = gameSessionService.getSnapshot(sessionCode).getResponse();
+        } catch (Exception e) {
+            log.warn("Dropping watchers of unknown session {}: {}", sessionCode, e.getMessage());
+            forget(sessionCode);
+            return;
+        }
+
+        String state = stateKey(status);
+        if (!Objects.equals(lastSentState.put(sessionCode, state), state)) {
+            telegramBroadcaster.broadcast(List.copyOf(chats).iterator(),
+                    telegramBot.gameStatusText(status, true), telegramBot::deliver).whenComplete((report, error) -> {
+                if (error != null) {
+                    log.warn("Spectator update for game {} failed: {}", sessionCode, error.getMessage());
+                } else if (report.getFailed() > 0) {
+                    log.warn("Spectator update for game {} missed {} of {} spectators",
+                            sessionCode, report.getFailed(), report.getRecipients());
+                }
+            });
+        }
+        if (isOver(status)) {
+            forget(sessionCode);
+        }
+    }
+
+    private void forget(String sessionCode) {
+        Set<Long> removed = watchers.remove(sessionCode);
+        lastSentState.remove(sessionCode);
+        if (removed != null) {
+            log.info("Game {} is over; stopped updating {} spectators", sessionCode, removed.size());
+        }
+    }
+
+    private static boolean isOver(GameSessionResponse status) {
+        return status.getWinner() != null || "ended".equals(status.getPhase());
+    }
+
+    private static String stateKey(GameSessionResponse status) {
+        return status.getPhase() + "|" + status.getCurrentCall() + "|" + status.getWinner();
+    }
+}
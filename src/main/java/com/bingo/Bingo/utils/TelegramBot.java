@@ -1,19 +1,20 @@
 package com.bingo.Bingo.utils;
 
+import com.bingo.Bingo.broadcast.TelegramBroadcaster;
+import com.bingo.Bingo.cache.UserCache;
 import com.bingo.Bingo.dto.request.UserDto;
 import com.bingo.Bingo.dto.request.JoinGameRequest;
 import com.bingo.Bingo.dto.request.BingoCallRequest;
 import com.bingo.Bingo.dto.response.GameSessionResponse;
 import com.bingo.Bingo.dto.response.BingoCardsResponse;
-import com.bingo.Bingo.entity.User;
-import com.bingo.Bingo.repository.UserRepository;
+import com.bingo.Bingo.dto.response.UserView;
+import com.bingo.Bingo.exception.ResourceExistsException;
 import com.bingo.Bingo.service.GameSessionService;
+import com.bingo.Bingo.service.UserService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.http.ResponseEntity;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.Update;
@@ -29,22 +30,28 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
+@Slf4j
 public class TelegramBot extends TelegramLongPollingBot {
 
-    private final RestTemplate restTemplate;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final UserService userService;
     private final GameSessionService gameSessionService;
     private final ObjectMapper objectMapper;
+    private final SpectatorNotifier spectatorNotifier;
+    private final TelegramBroadcaster telegramBroadcaster;
     
     // Track user states for card selection
     private final Map<Long, String> userStates = new ConcurrentHashMap<>();
     private final Map<Long, List<BingoCardsResponse>> userCardOptions = new ConcurrentHashMap<>();
 
-    public TelegramBot(UserRepository userRepository, GameSessionService gameSessionService, ObjectMapper objectMapper) {
-        this.restTemplate = new RestTemplate();
-        this.userRepository = userRepository;
+    public TelegramBot(UserCache userCache, UserService userService, GameSessionService gameSessionService,
+                       ObjectMapper objectMapper, SpectatorNotifier spectatorNotifier, TelegramBroadcaster telegramBroadcaster) {
+        this.userCache = userCache;
+        this.userService = userService;
         this.gameSessionService = gameSessionService;
         this.objectMapper = objectMapper;
+        this.spectatorNotifier = spectatorNotifier;
+        this.telegramBroadcaster = telegramBroadcaster;
     }
 
     @Override
@@ -149,7 +156,7 @@ public class TelegramBot extends TelegramLongPollingBot {
 
     private void handleJoinCommand(Long chatId, Long telegramId) {
         try {
-            Optional<User> user = userRepository.findByTelegramId(telegramId);
+            Optional<UserView> user = userCache.find(telegramId);
             if (user.isEmpty()) {
                 sendMessage(chatId.toString(), "❌ Please register first by sharing your phone number.");
                 return;
@@ -171,8 +178,8 @@ public class TelegramBot extends TelegramLongPollingBot {
             GameSessionResponse gameStatus = gameSessionService.getActiveGameSession();
             if (gameStatus != null) {
                 sendGameStatus(chatId, gameStatus, true);
-                // Start polling for updates
-                startGamePolling(chatId, gameStatus.getSessionCode());
+                // Keep the spectator updated as numbers are called
+                spectatorNotifier.watch(chatId, gameStatus);
             } else {
                 sendMessage(chatId.toString(), "❌ No active game to watch. Use /play to start a new game.");
             }
@@ -196,7 +203,7 @@ public class TelegramBot extends TelegramLongPollingBot {
 
     private void handleBingoCommand(Long chatId, Long telegramId) {
         try {
-            Optional<User> user = userRepository.findByTelegramId(telegramId);
+            Optional<UserView> user = userCache.find(telegramId);
             if (user.isEmpty()) {
                 sendMessage(chatId.toString(), "❌ Please register first by sharing your phone number.");
                 return;
@@ -222,7 +229,7 @@ public class TelegramBot extends TelegramLongPollingBot {
     private void handlePlayBingoButton(Long chatId, Long telegramId) {
         try {
             // Check if user is registered
-            Optional<User> user = userRepository.findByTelegramId(telegramId);
+            Optional<UserView> user = userCache.find(telegramId);
             if (user.isEmpty()) {
                 sendMessage(chatId.toString(), "❌ Please register first by sharing your phone number.");
                 return;
@@ -300,7 +307,6 @@ public class TelegramBot extends TelegramLongPollingBot {
                     JoinGameRequest joinRequest = JoinGameRequest.builder()
                             .telegramId(telegramId)
                             .selectedCardCode(selectedCard.getCardCode())
-                            .cardNumbers(selectedCard.getCardNumbers())
                             .build();
                     
                     GameSessionResponse gameSession = gameSessionService.joinGame(joinRequest);
@@ -429,6 +435,10 @@ public class TelegramBot extends TelegramLongPollingBot {
     }
 
     private void sendGameStatus(Long chatId, GameSessionResponse gameStatus, boolean isWatching) {
+        sendMessage(chatId.toString(), gameStatusText(gameStatus, isWatching));
+    }
+
+    public String gameStatusText(GameSessionResponse gameStatus, boolean isWatching) {
         StringBuilder status = new StringBuilder();
         
         if (isWatching) {
@@ -460,72 +470,30 @@ public class TelegramBot extends TelegramLongPollingBot {
             }
         }
         
-        sendMessage(chatId.toString(), status.toString());
-    }
-
-    private void startGamePolling(Long chatId, String sessionCode) {
-        // Start a background thread to poll for game updates
-        new Thread(() -> {
-            try {
-                while (true) {
-                    Thread.sleep(5000); // Poll every 5 seconds
-                    
-                    GameSessionResponse gameStatus = gameSessionService.getGameSession(sessionCode);
-                    if (gameStatus != null) {
-                        // Send updates to spectator
-                        sendGameStatus(chatId, gameStatus, true);
-                        
-                        // Check if game ended
-                        if (gameStatus.getWinner() != null) {
-                            break;
-                        }
-                    } else {
-                        break;
-                    }
-                }
-            } catch (Exception e) {
-                // Stop polling on error
-            }
-        }).start();
+        return status.toString();
     }
 
     private void broadcastToAllPlayers(String message) {
-        try {
-            // Get all registered users and send them the message
-            List<User> allUsers = userRepository.findAll();
-            for (User user : allUsers) {
-                try {
-                    sendMessage(user.getTelegramId().toString(), message);
-                    Thread.sleep(100); // Small delay to avoid rate limiting
-                } catch (Exception e) {
-                    // Continue with other users if one fails
-                }
-            }
-        } catch (Exception e) {
-            // Log error but don't stop the game
-        }
+        broadcastToAllUsers(message);
     }
 
     private void broadcastToAllUsers(String message) {
-        try {
-            List<User> allUsers = userRepository.findAll();
-            for (User user : allUsers) {
-                try {
-                    sendMessage(user.getTelegramId().toString(), message);
-                    Thread.sleep(100);
-                } catch (Exception e) {
-                    // Continue with other users
-                }
+        // Runs in the background, paced to Telegram's limits
+        telegramBroadcaster.broadcastToAllUsers(message, this::deliver).whenComplete((report, error) -> {
+            if (error != null) {
+                log.error("Broadcast to all users failed: {}", error.getMessage());
+            } else if (report.getFailed() > 0) {
+                log.warn("Broadcast to all users missed {} of {} users ({} rate limited)",
+                        report.getFailed(), report.getRecipients(), report.getRateLimited());
             }
-        } catch (Exception e) {
-            // Log error
-        }
+        });
     }
 
     private String getUserName(Long telegramId) {
         try {
-            Optional<User> user = userRepository.findByTelegramId(telegramId);
-            return user.map(User::getFirstName).orElse("Unknown Player");
+            return userCache.find(telegramId)
+                    .map(UserView::getFirstName)
+                    .orElse("Unknown Player");
         } catch (Exception e) {
             return "Unknown Player";
         }
@@ -546,14 +514,14 @@ public class TelegramBot extends TelegramLongPollingBot {
                 .lastName(lastName)
                 .build();
 
-        String url = "http://localhost:8080/users/register";
         try {
-            ResponseEntity<String> response = restTemplate.postForEntity(url, userDto, String.class);
-            sendMessage(String.valueOf(update.getMessage().getChatId()), 
-                    "✅ " + response.getBody() + "\n\n" +
+            UserDto registeredUser = userService.registerUser(userDto);
+            sendMessage(String.valueOf(update.getMessage().getChatId()),
+                    "✅ " + String.format("Registered successfully with name: %s and phone number: %s. click /play to start the game.",
+                            registeredUser.getFirstName(), registeredUser.getPhoneNumber()) + "\n\n" +
                     "🎮 You can now press '🎮 Play Bingo' to open the web app and start playing!");
-        } catch (HttpClientErrorException e) {
-            sendMessage(String.valueOf(update.getMessage().getChatId()), e.getResponseBodyAsString());
+        } catch (ResourceExistsException e) {
+            sendMessage(String.valueOf(update.getMessage().getChatId()), e.getMessage());
         } catch (Exception e) {
             System.err.println("Error sending message: " + e.getMessage());
             sendMessage(String.valueOf(update.getMessage().getChatId()), "❌ Registration failed. Please try again.");
@@ -575,6 +543,18 @@ public class TelegramBot extends TelegramLongPollingBot {
         super.onRegister();
     }
 
+    /**
+     * Send a message, leaving failures (including 429 rate limits) to the caller.
+     * Package-private so the spectator fan-out can hand it to the broadcaster too.
+     */
+    void deliver(long chatId, String text) throws TelegramApiException {
+        SendMessage message = new SendMessage();
+        message.setChatId(String.valueOf(chatId));
+        message.setText(text);
+        message.enableMarkdown(true);
+        execute(message);
+    }
+
     public void sendMessage(String chatId, String text) {
         SendMessage message = new SendMessage();
         message.setChatId(chatId);
@@ -0,0 +1,116 @@
+package com.bingo.Bingo.broadcast;
+
+import com.bingo.Bingo.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelegramBroadcasterTest {
+
+    @Test
+    void deliversToEveryChatOnceAndRetriesAfterRateLimits() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TelegramBroadcaster broadcaster = new TelegramBroadcaster(null, new GameMetrics(registry), 1000, 0, 16, 100);
+        Map<Long, AtomicInteger> received = new ConcurrentHashMap<>();
+        AtomicBoolean limited = new AtomicBoolean();
+
+        MessageSender stub = (chatId, text) -> {
+            if (chatId == 7 && limited.compareAndSet(false, true)) {
+                throw tooManyRequests(1);
+            }
+            received.computeIfAbsent(chatId, id -> new AtomicInteger()).incrementAndGet();
+        };
+
+        BroadcastReport report = broadcaster.broadcast(chats(500), "hello", stub).get(30, TimeUnit.SECONDS);
+
+        assertEquals(500, report.getRecipients());
+        assertEquals(500, report.getSent());
+        assertEquals(0, report.getFailed());
+        assertEquals(1, report.getRateLimited());
+        assertEquals(500, received.size());
+        received.forEach((chatId, count) -> assertEquals(1, count.get(), "chat " + chatId));
+        assertTrue(report.getElapsedMs() >= 1000, "the retry-after pause was not honoured");
+        assertEquals(500, registry.get("bingo.telegram.messages").tag("result", "sent").counter().count());
+        assertEquals(1, registry.get("bingo.telegram.rate.limited").counter().count());
+        assertEquals(500, registry.get("bingo.telegram.queue.wait").timer().count());
+    }
+
+    @Test
+    void countsFailuresWithoutRetryingThem() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TelegramBroadcaster broadcaster = new TelegramBroadcaster(null, new GameMetrics(registry), 1000, 0, 4, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        MessageSender stub = (chatId, text) -> {
+            attempts.incrementAndGet();
+            if (chatId % 10 == 0) {
+                throw new TelegramApiRequestException("Forbidden: bot was blocked by the user");
+            }
+        };
+
+        BroadcastReport report = broadcaster.broadcast(chats(100), "hello", stub).get(30, TimeUnit.SECONDS);
+
+        assertEquals(90, report.getSent());
+        assertEquals(10, report.getFailed());
+        assertEquals(100, attempts.get());
+        assertEquals(10, registry.get("bingo.telegram.messages").tag("result", "failed").counter().count());
+        assertEquals(0, registry.get("bingo.telegram.rate.limited").counter().count());
+    }
+
+    @Test
+    void keepsAtMostMaxInFlightSendsRunning() throws Exception {
+        TelegramBroadcaster broadcaster = new TelegramBroadcaster(null, new GameMetrics(new SimpleMeterRegistry()), 10_000, 0, 8, 100);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        MessageSender stub = (chatId, text) -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        };
+
+        BroadcastReport report = broadcaster.broadcast(chats(200), "hello", stub).get(30, TimeUnit.SECONDS);
+
+        assertEquals(200, report.getSent());
+        assertTrue(peak.get() <= 8, "peak concurrency " + peak.get());
+        assertTrue(peak.get() > 1, "sends did not overlap");
+    }
+
+    private static Iterator<Long> chats(int count) {
+        List<Long> ids = new ArrayList<>();
+        LongStream.rangeClosed(1, count).forEach(ids::add);
+        return ids.iterator();
+    }
+
+    private static TelegramApiException tooManyRequests(int retryAfterSeconds) {
+        return new TelegramApiRequestException("Too Many Requests") {
+            @Override
+            public Integer getErrorCode() {
+                return 429;
+            }
+
+            @Override
+            public ResponseParameters getParameters() {
+                return new ResponseParameters(null, retryAfterSeconds);
+            }
+        };
+    }
+}
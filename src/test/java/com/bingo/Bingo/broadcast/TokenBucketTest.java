@@ -0,0 +1,49 @@
+package com.bingo.Bingo.broadcast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void burstsThenPacesAtTheConfiguredRate() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 3, clock::get);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(100 * MS, bucket.reserve());
+        assertEquals(200 * MS, bucket.reserve());
+
+        clock.addAndGet(1000 * MS);
+        // The debt of two permits is paid off first, then the bucket refills up to its burst
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(100 * MS, bucket.reserve());
+    }
+
+    @Test
+    void pauseHoldsBackPermitsAndRestartsFromEmpty() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 5, clock::get);
+
+        bucket.pause(2000 * MS);
+        assertEquals(2100 * MS, bucket.reserve());
+
+        clock.addAndGet(2500 * MS);
+        // Half a second after the pause only the reserved permit and four new ones have accrued
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(100 * MS, bucket.reserve());
+    }
+}
@@ -0,0 +1,119 @@
+package com.bingo.Bingo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BingoDeckTest {
+
+    @Test
+    void sameSeedProducesSameDeck() {
+        BingoDeck first = BingoDeck.generate(42L);
+        BingoDeck second = BingoDeck.generate(42L);
+
+        for (int cardCode = 1; cardCode <= BingoDeck.DECK_SIZE; cardCode++) {
+            assertEquals(first.cardNumbers(cardCode), second.cardNumbers(cardCode));
+        }
+    }
+
+    @Test
+    void cardsAreDistinctAndRespectColumnRanges() {
+        BingoDeck deck = BingoDeck.generate(7L);
+        Set<Set<Integer>> seen = new HashSet<>();
+
+        for (int cardCode = 1; cardCode <= BingoDeck.DECK_SIZE; cardCode++) {
+            List<List<Integer>> card = deck.cardNumbers(cardCode);
+            Set<Integer> numbers = new HashSet<>();
+            for (int row = 0; row < 5; row++) {
+                for (int col = 0; col < 5; col++) {
+                    int n = card.get(row).get(col);
+                    if (row == 2 && col == 2) {
+                        assertEquals(0, n);
+                    } else {
+                        assertTrue(n >= col * 15 + 1 && n <= col * 15 + 15);
+                        numbers.add(n);
+                    }
+                }
+            }
+            assertEquals(24, numbers.size());
+            assertTrue(seen.add(numbers), "duplicate card " + cardCode);
+        }
+    }
+
+    @Test
+    void rejectsCardCodesOutsideTheDeck() {
+        BingoDeck deck = BingoDeck.generate(1L);
+        assertThrows(IllegalArgumentException.class, () -> deck.cardNumbers(0));
+        assertThrows(IllegalArgumentException.class, () -> deck.cardNumbers(401));
+    }
+
+    @Test
+    void lineMasksAgreeWithCellByCellCheck() {
+        BingoDeck deck = BingoDeck.generate(99L);
+        int[][] lines = BingoDeck.linePositions();
+        Random random = new Random(5L);
+
+        for (int round = 0; round < 200; round++) {
+            List<Integer> numbers = new ArrayList<>();
+            for (int n = 1; n <= CalledNumbers.MAX_NUMBER; n++) numbers.add(n);
+            Collections.shuffle(numbers, random);
+            CalledNumbers called = CalledNumbers.of(numbers.subList(0, 10 + random.nextInt(50)));
+
+            for (int cardCode = 1; cardCode <= BingoDeck.DECK_SIZE; cardCode++) {
+                boolean expected = false;
+                for (int[] line : lines) {
+                    boolean complete = true;
+                    for (int position : line) {
+                        int n = deck.number(cardCode, position / 5, position % 5);
+                        if (n != 0 && !called.contains(n)) {
+                            complete = false;
+                            break;
+                        }
+                    }
+                    expected |= complete;
+                }
+                assertEquals(expected, deck.hasBingo(cardCode, called.getLow(), called.getHigh()),
+                        "card " + cardCode + " round " + round);
+            }
+        }
+    }
+
+    @Test
+    void deckRebuiltFromItsCellsIsTheSameDeck() {
+        BingoDeck original = BingoDeck.generate(3L);
+        byte[] cells = original.cells();
+        assertEquals(9_600, cells.length);
+        assertEquals(original.number(17, 4, 3), cells[BingoDeck.cell(17, 4, 3)]);
+        assertThrows(IllegalArgumentException.class, () -> BingoDeck.cell(1, 2, 2));
+
+        BingoDeck rebuilt = BingoDeck.of(cells);
+        for (int cardCode = 1; cardCode <= BingoDeck.DECK_SIZE; cardCode++) {
+            assertEquals(original.cardNumbers(cardCode), rebuilt.cardNumbers(cardCode));
+        }
+
+        cells[7] = 76;
+        assertThrows(IllegalArgumentException.class, () -> BingoDeck.of(cells));
+        assertThrows(IllegalArgumentException.class, () -> BingoDeck.of(new byte[10]));
+    }
+
+    @Test
+    void calledNumbersTrackEachNumberOnce() {
+        CalledNumbers called = new CalledNumbers();
+        assertTrue(called.add(1));
+        assertTrue(called.add(64));
+        assertTrue(called.add(65));
+        assertTrue(called.add(75));
+        assertFalse(called.add(64));
+        assertEquals(4, called.count());
+        assertTrue(called.contains(75));
+        assertFalse(called.contains(2));
+        assertThrows(IllegalArgumentException.class, () -> called.add(76));
+    }
+}
@@ -0,0 +1,165 @@
+package com.bingo.Bingo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardReservationsTest {
+
+    private static final int THREADS = 16;
+
+    @Test
+    void claimReleaseAndSwap() {
+        CardReservations reservations = new CardReservations();
+
+        assertTrue(reservations.claim(1));
+        assertFalse(reservations.claim(1));
+        assertTrue(reservations.claim(400));
+        assertTrue(reservations.swap(1, 64));
+        assertFalse(reservations.isTaken(1));
+        assertFalse(reservations.swap(64, 400), "swap onto a taken card must fail");
+        assertTrue(reservations.isTaken(64));
+        assertEquals(List.of(64, 400), reservations.takenCodes());
+        assertTrue(reservations.release(400));
+        assertFalse(reservations.release(400));
+        assertEquals(1, reservations.count());
+        assertThrows(IllegalArgumentException.class, () -> reservations.claim(0));
+        assertThrows(IllegalArgumentException.class, () -> reservations.claim(BingoDeck.DECK_SIZE + 1));
+    }
+
+    @Test
+    void ranksSelectsAndPagesFreeCards() {
+        CardReservations reservations = new CardReservations();
+        for (int code = 1; code <= BingoDeck.DECK_SIZE; code += 3) {
+            reservations.claim(code);
+        }
+        List<Integer> free = new ArrayList<>();
+        for (int code = 1; code <= BingoDeck.DECK_SIZE; code++) {
+            if (!reservations.isTaken(code)) free.add(code);
+        }
+
+        assertEquals(free.size(), reservations.availableCount());
+        for (int rank = 0; rank < free.size(); rank++) {
+            assertEquals(free.get(rank), reservations.selectAvailable(rank));
+        }
+        assertEquals(CardReservations.NONE, reservations.selectAvailable(free.size()));
+        assertEquals(free.subList(0, 50), reservations.availableCodes(0, 50));
+        assertEquals(free.subList(100, 150), reservations.availableCodes(100, 50));
+        assertEquals(free.subList(free.size() - 5, free.size()), reservations.availableCodes(free.size() - 5, 50));
+        assertEquals(free, reservations.availableCodes(0, Integer.MAX_VALUE));
+
+        Random random = new Random(5L);
+        int[] hits = new int[BingoDeck.DECK_SIZE + 1];
+        for (int i = 0; i < free.size() * 200; i++) {
+            int code = reservations.randomAvailable(random);
+            assertFalse(reservations.isTaken(code));
+            hits[code]++;
+        }
+        for (int code : free) {
+            assertTrue(hits[code] > 100 && hits[code] < 300, "card " + code + " picked " + hits[code] + " times");
+        }
+
+        for (int code : free) reservations.claim(code);
+        assertEquals(CardReservations.NONE, reservations.randomAvailable(random));
+        assertTrue(reservations.availableCodes(0, 10).isEmpty());
+    }
+
+    @Test
+    void everyCardIsClaimedExactlyOnceUnderContention() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            CardReservations reservations = new CardReservations();
+            AtomicIntegerArray winners = new AtomicIntegerArray(BingoDeck.DECK_SIZE + 1);
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    long seed = round * 100L + t;
+                    results.add(pool.submit(() -> {
+                        List<Integer> codes = allCodes();
+                        Collections.shuffle(codes, new Random(seed));
+                        start.await();
+                        int claimed = 0;
+                        for (int code : codes) {
+                            if (reservations.claim(code)) {
+                                winners.incrementAndGet(code);
+                                claimed++;
+                            }
+                        }
+                        return claimed;
+                    }));
+                }
+                start.countDown();
+
+                int total = 0;
+                for (Future<Integer> result : results) {
+                    total += result.get(30, TimeUnit.SECONDS);
+                }
+                assertEquals(BingoDeck.DECK_SIZE, total);
+                for (int code = 1; code <= BingoDeck.DECK_SIZE; code++) {
+                    assertEquals(1, winners.get(code), "card " + code);
+                }
+                assertEquals(BingoDeck.DECK_SIZE, reservations.count());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void concurrentSwapsNeverShareOrLoseACard() throws Exception {
+        CardReservations reservations = new CardReservations();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int initial = t + 1;
+                assertTrue(reservations.claim(initial));
+                long seed = t;
+                results.add(pool.submit(() -> {
+                    Random random = new Random(seed);
+                    int held = initial;
+                    start.await();
+                    for (int i = 0; i < 20_000; i++) {
+                        int target = 1 + random.nextInt(BingoDeck.DECK_SIZE);
+                        if (target != held && reservations.swap(held, target)) {
+                            held = target;
+                        }
+                        assertTrue(reservations.isTaken(held));
+                    }
+                    return held;
+                }));
+            }
+            start.countDown();
+
+            Set<Integer> held = new HashSet<>();
+            for (Future<Integer> result : results) {
+                assertTrue(held.add(result.get(60, TimeUnit.SECONDS)), "two players ended up on one card");
+            }
+            assertEquals(held, new HashSet<>(reservations.takenCodes()));
+            assertEquals(THREADS, reservations.count());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static List<Integer> allCodes() {
+        List<Integer> codes = new ArrayList<>();
+        for (int code = 1; code <= BingoDeck.DECK_SIZE; code++) codes.add(code);
+        return codes;
+    }
+}
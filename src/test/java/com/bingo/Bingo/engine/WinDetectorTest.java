@@ -0,0 +1,54 @@
+package com.bingo.Bingo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WinDetectorTest {
+
+    @Test
+    void reportsCardsExactlyWhenTheirFirstLineCompletes() {
+        BingoDeck deck = BingoDeck.generate(11L);
+        List<Integer> cardsInPlay = List.of(3, 17, 42, 99, 250, 400);
+        WinDetector detector = WinDetector.build(deck, cardsInPlay);
+
+        List<Integer> numbers = new ArrayList<>();
+        for (int n = 1; n <= CalledNumbers.MAX_NUMBER; n++) numbers.add(n);
+        Collections.shuffle(numbers, new Random(3L));
+
+        CalledNumbers called = new CalledNumbers();
+        List<Integer> reported = new ArrayList<>();
+        for (int number : numbers) {
+            called.add(number);
+            for (int cardCode : detector.onNumberCalled(number)) {
+                assertFalse(reported.contains(cardCode), "card reported twice: " + cardCode);
+                reported.add(cardCode);
+            }
+            for (int cardCode : cardsInPlay) {
+                assertEquals(deck.hasBingo(cardCode, called.getLow(), called.getHigh()),
+                        reported.contains(cardCode), "card " + cardCode + " after " + number);
+            }
+        }
+        assertEquals(cardsInPlay.size(), reported.size());
+    }
+
+    @Test
+    void ignoresRepeatedNumbersAndCardsOutOfPlay() {
+        BingoDeck deck = BingoDeck.generate(11L);
+        WinDetector detector = WinDetector.build(deck, List.of(5));
+
+        List<Integer> firstRow = deck.cardNumbers(5).get(0);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, detector.onNumberCalled(firstRow.get(i)).length);
+            assertEquals(0, detector.onNumberCalled(firstRow.get(i)).length);
+        }
+        assertArrayEquals(new int[]{5}, detector.onNumberCalled(firstRow.get(4)));
+        assertTrue(detector.isCandidate(5));
+        assertFalse(detector.isCandidate(6));
+    }
+}
@@ -0,0 +1,419 @@
+package com.bingo.Bingo.loadtest;
+
+import com.bingo.Bingo.BingoApplication;
+import com.bingo.Bingo.dto.request.BingoCallRequest;
+import com.bingo.Bingo.dto.request.JoinGameRequest;
+import com.bingo.Bingo.dto.request.UserDto;
+import com.bingo.Bingo.dto.response.GameSessionResponse;
+import com.bingo.Bingo.dto.response.PlayerInfo;
+import com.bingo.Bingo.dto.response.RegistrationReport;
+import com.bingo.Bingo.engine.BingoDeck;
+import com.bingo.Bingo.engine.CalledNumbers;
+import com.bingo.Bingo.service.DeckService;
+import com.bingo.Bingo.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Plays one full round against the application started in-process on the {@code loadtest}
+ * profile (in-memory H2, no Telegram bot, short countdown and call interval).
+ * <p>
+ * N users are registered through {@link UserService}, then join at the same moment over HTTP,
+ * each with its own card, while a set of rivals tries to grab cards that are already being
+ * claimed. Every player then polls {@code /games/session/{code}} with If-None-Match at about
+ * one request per poll interval and calls {@code POST /games/bingo} as soon as its card
+ * completes a line. Latency percentiles per endpoint, throughput, Hibernate statement counts
+ * per phase and card-collision violations are printed and written to
+ * {@code target/loadtest/report.json}. The process exits non-zero on any violation.
+ * <p>
+ * Run with {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--players=400"};
+ * other options are {@code --rivals}, {@code --poll-interval-ms} and {@code --timeout-seconds}.
+ */
+public class LoadSimulator {
+
+    private final int players;
+    private final int rivals;
+    private final long pollIntervalMs;
+    private final long timeoutSeconds;
+
+    private final Map<String, Latencies> latencies = new LinkedHashMap<>();
+    private final Map<String, Object> phases = new LinkedHashMap<>();
+    private final List<String> violations = new ArrayList<>();
+
+    private ObjectMapper mapper;
+    private HttpClient http;
+    private String baseUrl;
+    private Statistics statistics;
+
+    LoadSimulator(Map<String, String> options) {
+        this.players = Integer.parseInt(options.getOrDefault("players", "400"));
+        this.rivals = Integer.parseInt(options.getOrDefault("rivals", String.valueOf(Math.max(1, players / 4))));
+        this.pollIntervalMs = Long.parseLong(options.getOrDefault("poll-interval-ms", "1000"));
+        this.timeoutSeconds = Long.parseLong(options.getOrDefault("timeout-seconds", "180"));
+        if (players < 1 || players > BingoDeck.DECK_SIZE) {
+            throw new IllegalArgumentException("players must be between 1 and " + BingoDeck.DECK_SIZE);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        int exitCode;
+        try (ConfigurableApplicationContext context = SpringApplication.run(BingoApplication.class,
+                "--spring.profiles.active=loadtest", "--server.port=0")) {
+            exitCode = new LoadSimulator(options).run(context);
+        }
+        System.exit(exitCode);
+    }
+
+    int run(ConfigurableApplicationContext context) throws Exception {
+        mapper = context.getBean(ObjectMapper.class).copy().enable(SerializationFeature.INDENT_OUTPUT);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + "/games";
+        BingoDeck deck = context.getBean(DeckService.class).getDeck();
+        UserService userService = context.getBean(UserService.class);
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            http = HttpClient.newBuilder()
+                    .executor(threads)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+
+            register(userService);
+            GameSessionResponse session = get("active", "/active", GameSessionResponse.class);
+            String sessionCode = session.getSessionCode();
+            join(threads, sessionCode);
+            checkCards(sessionCode);
+            play(threads, deck, sessionCode);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("players", players);
+        report.put("rivals", rivals);
+        report.put("pollIntervalMs", pollIntervalMs);
+        report.put("phases", phases);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        latencies.forEach((name, recorded) -> endpoints.put(name, recorded.summary()));
+        report.put("endpoints", endpoints);
+        report.put("violations", violations);
+
+        File file = new File("target/loadtest/report.json");
+        file.getParentFile().mkdirs();
+        mapper.writeValue(file, report);
+        System.out.println(mapper.writeValueAsString(report));
+        System.out.println("Report written to " + file.getAbsolutePath());
+        return violations.isEmpty() ? 0 : 1;
+    }
+
+    private void register(UserService userService) {
+        List<UserDto> users = new ArrayList<>();
+        for (int i = 1; i <= players + rivals; i++) {
+            users.add(UserDto.builder()
+                    .telegramId(telegramId(i))
+                    .firstName("Load")
+                    .lastName("Player " + i)
+                    .userName("load_" + i)
+                    .phoneNumber("+2519" + String.format("%08d", i))
+                    .build());
+        }
+        Phase phase = new Phase("register");
+        RegistrationReport registration = userService.registerUsers(users);
+        phase.finish(users.size()).put("registered", registration.getRegistered());
+    }
+
+    /**
+     * Player i claims card i; rival r goes for card r at the same instant, so every rival is
+     * in a race it should lose or win outright, never share.
+     */
+    private void join(ExecutorService threads, String sessionCode) throws InterruptedException {
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger rivalWins = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(players + rivals);
+        Phase phase = new Phase("join");
+
+        for (int i = 1; i <= players + rivals; i++) {
+            boolean rival = i > players;
+            int cardCode = rival ? i - players : i;
+            JoinGameRequest request = JoinGameRequest.builder()
+                    .telegramId(telegramId(i))
+                    .selectedCardCode(cardCode)
+                    .build();
+            threads.execute(() -> {
+                try {
+                    start.await();
+                    Response<GameSessionResponse> response = post("join", "/join", request, GameSessionResponse.class);
+                    if (response.ok() && Boolean.TRUE.equals(response.body().getHasSelectedCard())) {
+                        accepted.incrementAndGet();
+                        if (rival) rivalWins.incrementAndGet();
+                    } else {
+                        rejected.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    rejected.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+
+        Map<String, Object> result = phase.finish(players + rivals);
+        result.put("accepted", accepted.get());
+        result.put("rejected", rejected.get());
+        result.put("rivalWins", rivalWins.get());
+    }
+
+    /**
+     * The session must hold exactly one player per taken card, and every contested card
+     * must have gone to exactly one of its two claimants.
+     */
+    private void checkCards(String sessionCode) throws Exception {
+        GameSessionResponse snapshot = get("session", "/session/" + sessionCode, GameSessionResponse.class);
+        Map<Integer, List<Long>> holders = new HashMap<>();
+        for (PlayerInfo player : snapshot.getPlayers()) {
+            if (player.getSelectedCardCode() != null) {
+                holders.computeIfAbsent(player.getSelectedCardCode(), code -> new ArrayList<>()).add(player.getTelegramId());
+            }
+        }
+        holders.forEach((code, ids) -> {
+            if (ids.size() > 1) violations.add("card " + code + " held by " + ids);
+        });
+        List<Integer> taken = snapshot.getSelectedCardCodes();
+        if (taken.size() != holders.size() || !holders.keySet().containsAll(taken)) {
+            violations.add("reserved cards " + taken.size() + " do not match cards held by players " + holders.size());
+        }
+        for (int code = 1; code <= Math.min(rivals, players); code++) {
+            List<Long> ids = holders.getOrDefault(code, List.of());
+            if (ids.size() != 1) {
+                violations.add("contested card " + code + " ended up with " + ids.size() + " holders");
+            }
+        }
+        phases.put("cards", Map.of("playersWithCards", holders.size(), "reservedCards", taken.size()));
+    }
+
+    /**
+     * Poll until a winner is declared or every number has been called; each player calls
+     * BINGO once, as soon as its own view of the called numbers completes a line.
+     */
+    private void play(ExecutorService threads, BingoDeck deck, String sessionCode) throws InterruptedException {
+        GameSessionResponse snapshot = getQuietly(sessionCode);
+        Map<Long, Integer> cards = new HashMap<>();
+        for (PlayerInfo player : snapshot.getPlayers()) {
+            if (player.getSelectedCardCode() != null) cards.put(player.getTelegramId(), player.getSelectedCardCode());
+        }
+
+        AtomicBoolean over = new AtomicBoolean();
+        AtomicReference<String> winner = new AtomicReference<>();
+        AtomicInteger bingoCalls = new AtomicInteger();
+        AtomicInteger notModified = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(cards.size());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        Phase phase = new Phase("play");
+
+        cards.forEach((telegramId, cardCode) -> threads.execute(() -> {
+            String eTag = null;
+            boolean called = false;
+            try {
+                TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(pollIntervalMs));
+                while (!over.get() && System.nanoTime() < deadline) {
+                    Response<GameSessionResponse> poll;
+                    try {
+                        poll = poll(sessionCode, eTag);
+                    } catch (IOException e) {
+                        // Counted as an error against the endpoint; keep polling like a client would
+                        TimeUnit.MILLISECONDS.sleep(pollIntervalMs);
+                        continue;
+                    }
+                    if (poll.status() == 304) {
+                        notModified.incrementAndGet();
+                    } else if (poll.ok()) {
+                        eTag = poll.eTag();
+                        GameSessionResponse state = poll.body();
+                        if (state.getWinner() != null || "ended".equals(state.getPhase())) {
+                            winner.compareAndSet(null, state.getWinner());
+                            over.set(true);
+                            break;
+                        }
+                        CalledNumbers numbers = CalledNumbers.of(state.getCalledNumbers());
+                        if (!called && deck.hasBingo(cardCode, numbers.getLow(), numbers.getHigh())) {
+                            called = true;
+                            bingoCalls.incrementAndGet();
+                            post("bingo", "/bingo", BingoCallRequest.builder().telegramId(telegramId).build(),
+                                    GameSessionResponse.class);
+                            continue;
+                        }
+                    }
+                    TimeUnit.MILLISECONDS.sleep(pollIntervalMs);
+                }
+            } catch (Exception e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }));
+        done.await();
+
+        Map<String, Object> result = phase.finish(latencies.get("session").count());
+        result.put("winner", winner.get());
+        result.put("bingoCalls", bingoCalls.get());
+        result.put("notModified", notModified.get());
+        result.put("timedOut", !over.get());
+        if (!over.get()) violations.add("round did not finish within " + timeoutSeconds + "s");
+    }
+
+    private GameSessionResponse getQuietly(String sessionCode) {
+        try {
+            return get("session", "/session/" + sessionCode, GameSessionResponse.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not read session " + sessionCode, e);
+        }
+    }
+
+    private Response<GameSessionResponse> poll(String sessionCode, String eTag) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + "/session/" + sessionCode)).GET();
+        if (eTag != null) request.header("If-None-Match", eTag);
+        return send("session", request.build(), GameSessionResponse.class);
+    }
+
+    private <T> T get(String endpoint, String path, Class<T> type) throws Exception {
+        Response<T> response = send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(), type);
+        if (!response.ok()) throw new IllegalStateException("GET " + path + " returned " + response.status());
+        return response.body();
+    }
+
+    private <T> Response<T> post(String endpoint, String path, Object body, Class<T> type) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                .build();
+        return send(endpoint, request, type);
+    }
+
+    private <T> Response<T> send(String endpoint, HttpRequest request, Class<T> type) throws Exception {
+        long started = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (Exception e) {
+            latencies(endpoint).record(System.nanoTime() - started, false);
+            throw e;
+        }
+        boolean ok = response.statusCode() == 200 || response.statusCode() == 304;
+        latencies(endpoint).record(System.nanoTime() - started, ok);
+        T body = response.statusCode() == 200 ? mapper.readValue(response.body(), type) : null;
+        return new Response<>(response.statusCode(), body, response.headers().firstValue("ETag").orElse(null));
+    }
+
+    private synchronized Latencies latencies(String endpoint) {
+        return latencies.computeIfAbsent(endpoint, name -> new Latencies());
+    }
+
+    private static long telegramId(int index) {
+        return 9_000_000_000L + index;
+    }
+
+    private record Response<T>(int status, T body, String eTag) {
+        boolean ok() {
+            return status == 200;
+        }
+    }
+
+    /**
+     * Wall time, request throughput and Hibernate statement counts for one stage of the round.
+     */
+    private class Phase {
+        private final String name;
+        private final long started = System.nanoTime();
+        private final long statements = statistics.getPrepareStatementCount();
+        private final long queries = statistics.getQueryExecutionCount();
+        private final long inserts = statistics.getEntityInsertCount();
+        private final long updates = statistics.getEntityUpdateCount();
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        Map<String, Object> finish(long operations) {
+            double seconds = (System.nanoTime() - started) / 1e9;
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("elapsedMs", Math.round(seconds * 1000));
+            result.put("operations", operations);
+            result.put("throughputPerSecond", Math.round(operations / Math.max(seconds, 1e-9)));
+            result.put("statements", statistics.getPrepareStatementCount() - statements);
+            result.put("queries", statistics.getQueryExecutionCount() - queries);
+            result.put("entityInserts", statistics.getEntityInsertCount() - inserts);
+            result.put("entityUpdates", statistics.getEntityUpdateCount() - updates);
+            phases.put(name, result);
+            return result;
+        }
+    }
+
+    private static class Latencies {
+        private final ConcurrentLinkedQueue<Long> nanos = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        void record(long elapsedNanos, boolean ok) {
+            nanos.add(elapsedNanos);
+            if (!ok) errors.incrementAndGet();
+        }
+
+        int count() {
+            return nanos.size();
+        }
+
+        Map<String, Object> summary() {
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", sorted.length);
+            result.put("errors", errors.get());
+            result.put("p50Ms", percentile(sorted, 0.50));
+            result.put("p99Ms", percentile(sorted, 0.99));
+            result.put("maxMs", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+            result.put("meanMs", Arrays.stream(sorted).average().orElse(0) / 1e6);
+            return result;
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.bingo.Bingo.state;
+
+import com.bingo.Bingo.engine.BingoDeck;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the same checks against the in-memory store and against Redis (an embedded server),
+ * with two Redis-backed stores standing in for two nodes claiming cards and taking over leases.
+ */
+class SessionStateStoreTest {
+
+    private static RedisServer redisServer;
+    private static final List<LettuceConnectionFactory> connections = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connections.forEach(LettuceConnectionFactory::destroy);
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void inMemoryStoreClaimsSwapsAndRecordsCalls() {
+        checkBasics(new InMemorySessionStateStore());
+    }
+
+    @Test
+    void redisStoreClaimsSwapsAndRecordsCalls() {
+        checkBasics(redisStore());
+    }
+
+    @Test
+    void nodesSharingRedisNeverClaimTheSameCard() throws Exception {
+        List<SessionStateStore> nodes = List.of(redisStore(), redisStore());
+        String session = "GAME_CONTENDED";
+        int threadsPerNode = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(nodes.size() * threadsPerNode);
+        try {
+            List<Future<List<Integer>>> results = new ArrayList<>();
+            for (int t = 0; t < nodes.size() * threadsPerNode; t++) {
+                SessionStateStore node = nodes.get(t % nodes.size());
+                long seed = t;
+                results.add(pool.submit(() -> {
+                    List<Integer> codes = new ArrayList<>();
+                    for (int code = 1; code <= BingoDeck.DECK_SIZE; code++) codes.add(code);
+                    Collections.shuffle(codes, new Random(seed));
+                    start.await();
+                    List<Integer> won = new ArrayList<>();
+                    for (int code : codes) {
+                        if (node.claimCard(session, code)) won.add(code);
+                    }
+                    return won;
+                }));
+            }
+            start.countDown();
+
+            int[] owners = new int[BingoDeck.DECK_SIZE + 1];
+            for (Future<List<Integer>> result : results) {
+                for (int code : result.get(60, TimeUnit.SECONDS)) owners[code]++;
+            }
+            for (int code = 1; code <= BingoDeck.DECK_SIZE; code++) {
+                assertEquals(1, owners[code], "card " + code);
+            }
+            assertEquals(BingoDeck.DECK_SIZE, nodes.get(1).cards(session).count());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void checkBasics(SessionStateStore store) {
+        String session = "GAME_" + System.nanoTime();
+
+        assertTrue(store.claimCard(session, 1));
+        assertFalse(store.claimCard(session, 1));
+        assertTrue(store.claimCard(session, 400));
+        assertTrue(store.swapCard(session, 1, 64));
+        assertFalse(store.swapCard(session, 64, 400), "swap onto a taken card must fail");
+        assertEquals(List.of(64, 400), store.cards(session).takenCodes());
+        assertTrue(store.releaseCard(session, 400));
+        assertFalse(store.releaseCard(session, 400));
+        assertEquals(List.of(64), store.cards(session).takenCodes());
+        assertThrows(IllegalArgumentException.class, () -> store.claimCard(session, 0));
+
+        long token = store.acquireLease(session, "node-a", Duration.ofSeconds(5));
+        assertTrue(store.appendCall(session, 12, token));
+        assertTrue(store.appendCall(session, 75, token));
+        assertTrue(store.appendCall(session, 3, token));
+        assertEquals(List.of(12, 75, 3), store.calls(session));
+        assertEquals(List.of(12, 75, 3), store.callsSince(session, 0));
+        assertEquals(List.of(75, 3), store.callsSince(session, 1));
+        assertTrue(store.callsSince(session, 3).isEmpty());
+
+        assertEquals(0, store.playersVersion(session));
+        assertEquals(1, store.playersChanged(session));
+        assertEquals(2, store.playersChanged(session));
+        assertEquals(2, store.playersVersion(session));
+        assertEquals(0, store.sessionVersion(session));
+        assertEquals(1, store.sessionChanged(session));
+        assertEquals(1, store.sessionVersion(session));
+
+        store.clear(session);
+        assertTrue(store.cards(session).takenCodes().isEmpty());
+        assertTrue(store.calls(session).isEmpty());
+        assertEquals(0, store.playersVersion(session));
+        assertEquals(0, store.sessionVersion(session));
+    }
+
+    @Test
+    void inMemoryLeasesFailOverAndFenceTheOldLeader() throws Exception {
+        InMemorySessionStateStore store = new InMemorySessionStateStore();
+        checkLeases(store, store);
+    }
+
+    @Test
+    void redisLeasesFailOverAndFenceTheOldLeader() throws Exception {
+        checkLeases(redisStore(), redisStore());
+    }
+
+    private static void checkLeases(SessionStateStore nodeA, SessionStateStore nodeB) throws Exception {
+        String session = "GAME_LEASED_" + System.nanoTime();
+        Duration ttl = Duration.ofMillis(300);
+
+        long first = nodeA.acquireLease(session, "node-a", ttl);
+        assertNotEquals(SessionStateStore.NO_LEASE, first);
+        assertEquals(SessionStateStore.NO_LEASE, nodeB.acquireLease(session, "node-b", ttl));
+        assertEquals(first, nodeA.acquireLease(session, "node-a", ttl), "renewal keeps the token");
+        assertTrue(nodeA.appendCall(session, 7, first));
+
+        // node-a stalls past its lease and node-b takes over
+        TimeUnit.MILLISECONDS.sleep(ttl.toMillis() + 100);
+        long second = nodeB.acquireLease(session, "node-b", ttl);
+        assertTrue(second > first);
+        assertFalse(nodeA.appendCall(session, 8, first), "the old leader is fenced off");
+        assertTrue(nodeB.appendCall(session, 9, second));
+        assertEquals(List.of(7, 9), nodeA.calls(session));
+        assertEquals(List.of(9), nodeA.callsSince(session, 1), "a follower reads only the calls it missed");
+
+        // An early release hands the session over straight away
+        nodeB.releaseLease(session, "node-a");
+        assertEquals(SessionStateStore.NO_LEASE, nodeA.acquireLease(session, "node-a", ttl));
+        nodeB.releaseLease(session, "node-b");
+        assertTrue(nodeA.acquireLease(session, "node-a", ttl) > second);
+    }
+
+    private static RedisSessionStateStore redisStore() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", redisServer.ports().get(0)));
+        factory.afterPropertiesSet();
+        connections.add(factory);
+        return new RedisSessionStateStore(new StringRedisTemplate(factory), 5);
+    }
+}